@@ -0,0 +1,92 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package benchmark;
+
+import golden.MaterialComponentCatalog;
+import mdlaf.MaterialLookAndFeel;
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the paint of each Material UI with each theme, painting the component inside a BufferedImage.
+ * Run it with ./gradlew jmh, the gc profiler of JMH reports the bytes allocated by each paint
+ * (gc.alloc.rate.norm).
+ * <p>
+ * The component is created on the EDT, the paint is done from the benchmark thread because
+ * there is not a window and so nothing else uses the component.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class MaterialPaintBenchmark {
+
+    @Param({"MaterialLiteTheme", "JMarsDarkTheme", "MaterialOceanicTheme"})
+    public String theme;
+
+    @Param({MaterialComponentCatalog.BUTTON, MaterialComponentCatalog.TABLE, MaterialComponentCatalog.TREE,
+            MaterialComponentCatalog.TABBED_PANE, MaterialComponentCatalog.TEXT_FIELD,
+            MaterialComponentCatalog.COMBO_BOX, MaterialComponentCatalog.SLIDER, MaterialComponentCatalog.SCROLL_BAR})
+    public String component;
+
+    private JComponent target;
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    UIManager.setLookAndFeel(new MaterialLookAndFeel(MaterialComponentCatalog.createTheme(theme)));
+                } catch (UnsupportedLookAndFeelException e) {
+                    throw new IllegalStateException(e);
+                }
+                target = MaterialComponentCatalog.createComponent(component);
+            }
+        });
+        image = new BufferedImage(Math.max(1, target.getWidth()), Math.max(1, target.getHeight()), BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        target.paint(graphics);
+        return image;
+    }
+}
@@ -67,7 +67,12 @@ import mdlaf.themes.MaterialLiteTheme;
 import mdlaf.themes.MaterialTheme;
 import mdlaf.themes.exceptions.MaterialChangeThemeException;
 import mdlaf.utils.MaterialBorders;
+import mdlaf.utils.MaterialFontFactory;
 import mdlaf.utils.MaterialImageFactory;
+import mdlaf.utils.MaterialPaintMutationDetector;
+import mdlaf.utils.MaterialPaintStatistics;
+import mdlaf.utils.MaterialStallWatchdog;
+import mdlaf.utils.MaterialThemeRefresher;
 import mdlaf.utils.icons.MaterialIconFont;
 
 import javax.swing.*;
@@ -76,7 +81,17 @@ import javax.swing.plaf.basic.BasicLookAndFeel;
 import javax.swing.plaf.metal.MetalLookAndFeel;
 import javax.swing.text.DefaultEditorKit;
 import java.awt.*;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * @author https://github.com/vincenzopalazzo
@@ -86,6 +101,18 @@ public class MaterialLookAndFeel extends MetalLookAndFeel {
 
     protected BasicLookAndFeel basicLookAndFeel;
     protected MaterialTheme theme;
+    /**
+     * The last theme installed from this look and feel, the initComponentDefaults need only the
+     * theme installed, so we can skip a second installTheme() when the theme is not changed.
+     */
+    private MaterialTheme installedTheme;
+
+    private static final Map<String, Method> BASIC_METHODS = new ConcurrentHashMap<>();
+    /**
+     * The themes installed by preload and not yet used by a constructor, the constructor doesn't install them
+     * again so the fonts and the icons loaded by preload are kept.
+     */
+    private static final Map<MaterialTheme, Boolean> PRELOADED_THEMES = Collections.synchronizedMap(new WeakHashMap<MaterialTheme, Boolean>());
 
     private static final String buttonUI = MaterialButtonUI.class.getCanonicalName();
     private static final String textfieldUI = MaterialTextFieldUI.class.getCanonicalName();
@@ -136,6 +163,7 @@ public class MaterialLookAndFeel extends MetalLookAndFeel {
             UIManager.removeAuxiliaryLookAndFeel(materialLookAndFeel);
             theme.installTheme();
             materialLookAndFeel.setTheme(theme);
+            materialLookAndFeel.installedTheme = theme;
             try {
                 UIManager.setLookAndFeel(materialLookAndFeel);
             } catch (UnsupportedLookAndFeelException e) {
@@ -146,13 +174,176 @@ public class MaterialLookAndFeel extends MetalLookAndFeel {
         throw new MaterialChangeThemeException("The look and feel set not is MaterialLookAnfFeel");
     }
 
+    /**
+     * This method changes the theme of all windows without install the look and feel again, so it is not
+     * necessary to call SwingUtilities.updateComponentTreeUI after it.
+     * Only the values of the UIManager changed by the new theme are replaced, and the Material UIs that implement
+     * MaterialThemeRefreshable read again their style in place, keeping their listeners, timers and renderers.
+     * All the other UIs, also the ones outside this library, are installed again with updateUI, like
+     * SwingUtilities.updateComponentTreeUI does, @see MaterialThemeRefresher.
+     * <p>
+     * The method must be called on the event dispatch thread.
+     */
+    public static void swapTheme(MaterialTheme theme) {
+        if (theme == null) {
+            throw new IllegalArgumentException("Theme null");
+        }
+        LookAndFeel lookAndFeel = UIManager.getLookAndFeel();
+        if (!(lookAndFeel instanceof MaterialLookAndFeel)) {
+            throw new MaterialChangeThemeException("The look and feel set not is MaterialLookAnfFeel");
+        }
+        MaterialLookAndFeel materialLookAndFeel = (MaterialLookAndFeel) lookAndFeel;
+        theme.installTheme();
+        materialLookAndFeel.setTheme(theme);
+        materialLookAndFeel.installedTheme = theme;
+        UIDefaults defaults = UIManager.getLookAndFeelDefaults();
+        defaults.putDefaults(materialLookAndFeel.getChangedDefaults(defaults));
+        for (Window window : Window.getWindows()) {
+            MaterialThemeRefresher.refreshComponentTree(window);
+            window.validate();
+            window.repaint();
+        }
+    }
+
+    /**
+     * Returns the keys and the values of the defaults of the current theme that are different from the installed ones,
+     * in the format of UIDefaults.putDefaults. The lazy and active values are not compared, they are created
+     * by the MetalLookAndFeel and they do not depend from the theme.
+     */
+    private Object[] getChangedDefaults(UIDefaults installed) {
+        List<Object> changed = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : getDefaults().entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof UIDefaults.LazyValue || value instanceof UIDefaults.ActiveValue) {
+                continue;
+            }
+            if (!value.equals(installed.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+                changed.add(value);
+            }
+        }
+        return changed.toArray();
+    }
+
+    /**
+     * Warm up the default theme, @see preload(MaterialTheme, Executor)
+     */
+    public static CompletableFuture<MaterialTheme> preload(Executor executor) {
+        return preload(new MaterialLiteTheme(), executor);
+    }
+
+    /**
+     * This method loads the Noto Sans fonts, installs the theme and renders the theme icons on the
+     * executor, so the EDT does not pay for it the first time that a component is painted.
+     * The four fonts are loaded in parallel, the theme is installed when all fonts are loaded,
+     * and after that the icons are rendered in parallel.
+     * <p>
+     * The returned future is completed on the EDT, so the caller can set the look and feel directly
+     * from it, like:
+     * <pre>
+     * MaterialLookAndFeel.preload(executor).thenAccept(theme -&gt; {
+     *     UIManager.setLookAndFeel(new MaterialLookAndFeel(theme));
+     *     // create the first frame
+     * });
+     * </pre>
+     */
+    public static CompletableFuture<MaterialTheme> preload(final MaterialTheme theme, final Executor executor) {
+        if (theme == null || executor == null) {
+            throw new IllegalArgumentException("Theme or executor null");
+        }
+        final MaterialFontFactory fontFactory = MaterialFontFactory.getInstance();
+        CompletableFuture<Void> fonts = CompletableFuture.allOf(
+                CompletableFuture.runAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        fontFactory.getFont(MaterialFontFactory.REGULAR);
+                    }
+                }, executor),
+                CompletableFuture.runAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        fontFactory.getFont(MaterialFontFactory.BOLD);
+                    }
+                }, executor),
+                CompletableFuture.runAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        fontFactory.getFont(MaterialFontFactory.ITALIC);
+                    }
+                }, executor),
+                CompletableFuture.runAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        fontFactory.getFont(MaterialFontFactory.MEDIUM);
+                    }
+                }, executor));
+        return fonts.thenRunAsync(new Runnable() {
+            @Override
+            public void run() {
+                theme.installTheme();
+                PRELOADED_THEMES.put(theme, Boolean.TRUE);
+            }
+        }, executor).thenCompose(new Function<Void, CompletableFuture<Void>>() {
+            @Override
+            public CompletableFuture<Void> apply(Void ignored) {
+                List<Icon> icons = getThemeIcons(theme);
+                CompletableFuture<?>[] tasks = new CompletableFuture<?>[icons.size()];
+                for (int i = 0; i < tasks.length; i++) {
+                    final Icon icon = icons.get(i);
+                    tasks[i] = CompletableFuture.runAsync(new Runnable() {
+                        @Override
+                        public void run() {
+                            // Measure the icon is enough to build the lazy icons
+                            icon.getIconWidth();
+                        }
+                    }, executor);
+                }
+                return CompletableFuture.allOf(tasks);
+            }
+        }).thenApplyAsync(new Function<Void, MaterialTheme>() {
+            @Override
+            public MaterialTheme apply(Void ignored) {
+                return theme;
+            }
+        }, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                SwingUtilities.invokeLater(command);
+            }
+        });
+    }
+
+    private static List<Icon> getThemeIcons(MaterialTheme theme) {
+        List<Icon> icons = new ArrayList<>();
+        for (Method method : MaterialTheme.class.getMethods()) {
+            if (method.getParameterTypes().length != 0 || !Icon.class.isAssignableFrom(method.getReturnType())) {
+                continue;
+            }
+            try {
+                Icon icon = (Icon) method.invoke(theme);
+                if (icon != null) {
+                    icons.add(icon);
+                }
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Error when I read the icon " + method.getName() + " of the theme " + theme.getName(), e);
+            }
+        }
+        return icons;
+    }
+
     public MaterialLookAndFeel() {
         this(new MaterialLiteTheme());
     }
 
     public MaterialLookAndFeel(MaterialTheme theme) {
         this.theme = theme;
-        theme.installTheme();
+        if (PRELOADED_THEMES.remove(theme) == null) {
+            theme.installTheme();
+        }
+        this.installedTheme = theme;
+        MaterialPaintMutationDetector.installIfEnabled();
+        MaterialPaintStatistics.installIfEnabled();
+        MaterialStallWatchdog.installIfEnabled();
         try {
             basicLookAndFeel = new MetalLookAndFeel();
             UIManager.LookAndFeelInfo info = new MaterialLookAndFeelInfo(getName(), getClass().getCanonicalName());
@@ -238,6 +429,10 @@ public class MaterialLookAndFeel extends MetalLookAndFeel {
 
     @Override
     protected void initComponentDefaults(UIDefaults table) {
+        if (installedTheme != theme) {
+            theme.installTheme();
+            installedTheme = theme;
+        }
         super.initComponentDefaults(table);
 
         table.put("Button.highlight", theme.getButtonColorHighlight());
@@ -489,6 +684,8 @@ public class MaterialLookAndFeel extends MetalLookAndFeel {
         table.put("TextArea.foreground", theme.getTextColor());
         table.put("TextArea.font", theme.getFontBold());
         table.put("TextArea.caretForeground", theme.getTextColor());
+        table.put("TextArea[lineWrap].enable", theme.getLineWrapTextArea());
+        table.put("TextArea[wrapStyleWord].enable", theme.getWrapStyleWordTextArea());
 
         table.put("ToggleButton.border", new BorderUIResource(BorderFactory.createEmptyBorder(5, 5, 5, 5)));
         table.put("ToggleButton.font", theme.getFontRegular());
@@ -531,6 +728,9 @@ public class MaterialLookAndFeel extends MetalLookAndFeel {
         table.put("Tree.closedIcon", theme.getClosedIconTree());
         table.put("Tree.openIcon", theme.getOpenIconTree());
         table.put("Tree.leafIcon", theme.getLeafIconTree());
+        table.put("Tree[fixedRowHeight].enable", theme.getFixedRowHeightTree());
+        table.put("Tree.rowHeight", theme.getRowHeightTree());
+        table.put("Tree.largeModel", theme.getLargeModelTree());
 
         table.put("RadioButtonMenuItem.foreground", theme.getTextColor());
         table.put("RadioButtonMenuItem.selectionForeground", theme.getTextColor());
@@ -666,18 +866,18 @@ public class MaterialLookAndFeel extends MetalLookAndFeel {
         table.put("RootPane.warningDialogBorder", theme.getBorderDialogRootPane());
         table.put("RootPane.colorChooserDialogBorder", theme.getBackgroundPrimary());
 
-        table.put("InternalFrame.maximizeIcon", MaterialImageFactory.getInstance().getImage(
+        table.put("InternalFrame.maximizeIcon", MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.FULLSCREEN,
                 25,
                 theme.getTextColor()
         ));
-        table.put("InternalFrame.minimizeIcon", MaterialImageFactory.getInstance().getImage(
+        table.put("InternalFrame.minimizeIcon", MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.FULLSCREEN_EXIT,
                 25,
                 theme.getTextColor()
         ));
         table.put("InternalFrame.closeIcon", theme.getIconCloseTitlePane());
-        table.put("InternalFrame.iconifyIcon", MaterialImageFactory.getInstance().getImage(
+        table.put("InternalFrame.iconifyIcon", MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.MINIMIZE,
                 25,
                 theme.getTextColor()
@@ -747,23 +947,15 @@ public class MaterialLookAndFeel extends MetalLookAndFeel {
 
     @Override
     public UIDefaults getDefaults() {
-        try {
-            final Method superMethod = BasicLookAndFeel.class.getDeclaredMethod("getDefaults");
-            superMethod.setAccessible(true);
-            final UIDefaults defaults = (UIDefaults) superMethod.invoke(basicLookAndFeel);
-            initClassDefaults(defaults);
-            initComponentDefaults(defaults);
-            theme.installTheme();
-            defaults.put("OptionPane.warningIcon", MaterialImageFactory.getInstance().getImage(MaterialImageFactory.WARNING));
-            defaults.put("OptionPane.errorIcon", MaterialImageFactory.getInstance().getImage(MaterialImageFactory.ERROR));
-            defaults.put("OptionPane.questionIcon", MaterialImageFactory.getInstance().getImage(MaterialImageFactory.QUESTION));
-            defaults.put("OptionPane.informationIcon", MaterialImageFactory.getInstance().getImage(MaterialImageFactory.INFORMATION));
-            return defaults;
-        } catch (Exception ignore) {
-            //do nothing
-            ignore.printStackTrace();
-        }
-        return super.getDefaults();
+        // getDefaults is public, so we can call the MetalLookAndFeel without the reflection
+        final UIDefaults defaults = basicLookAndFeel.getDefaults();
+        initClassDefaults(defaults);
+        initComponentDefaults(defaults);
+        defaults.put("OptionPane.warningIcon", MaterialImageFactory.getInstance().getImage(MaterialImageFactory.WARNING));
+        defaults.put("OptionPane.errorIcon", MaterialImageFactory.getInstance().getImage(MaterialImageFactory.ERROR));
+        defaults.put("OptionPane.questionIcon", MaterialImageFactory.getInstance().getImage(MaterialImageFactory.QUESTION));
+        defaults.put("OptionPane.informationIcon", MaterialImageFactory.getInstance().getImage(MaterialImageFactory.INFORMATION));
+        return defaults;
     }
 
     @Override
@@ -781,8 +973,12 @@ public class MaterialLookAndFeel extends MetalLookAndFeel {
 
     protected void call(String method) {
         try {
-            final Method superMethod = BasicLookAndFeel.class.getDeclaredMethod(method);
-            superMethod.setAccessible(true);
+            Method superMethod = BASIC_METHODS.get(method);
+            if (superMethod == null) {
+                superMethod = BasicLookAndFeel.class.getDeclaredMethod(method);
+                superMethod.setAccessible(true);
+                BASIC_METHODS.put(method, superMethod);
+            }
             superMethod.invoke(basicLookAndFeel);
         } catch (Exception ex) {
             ex.printStackTrace();
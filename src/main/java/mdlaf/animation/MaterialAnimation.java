@@ -0,0 +1,48 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.animation;
+
+/**
+ * This interface is implemented by all animations driven by the {@link MaterialAnimationClock},
+ * the clock call the method onPulse on the Event Dispatch Thread for each frame when the animation
+ * is registered.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public interface MaterialAnimation {
+
+    /**
+     * @param now is the time of the pulse, expressed in milliseconds, and it is the same for all animations
+     *            updated inside the same pulse.
+     */
+    void onPulse(long now);
+
+    /**
+     * @return the time between two frames of the animation, expressed in milliseconds, the clock pulses
+     * with the smallest interval of the registered animations.
+     */
+    default int getInterval() {
+        return MaterialAnimationClock.PULSE;
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.animation;
+
+import javax.swing.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is the single clock of the library, it drives all active {@link MaterialAnimation} with only one
+ * {@link Timer}, so the Event Dispatch Thread is woken once for each frame and not once for each component.
+ *
+ * An animation should be registered only while it is running, when the last animation is removed the timer
+ * is stopped and an idle UI has no timer running. The timer pulses with the smallest interval of the registered
+ * animations, but never faster than {@link #PULSE}.
+ *
+ * This class is not thread safe, all methods must be called on the Event Dispatch Thread.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public class MaterialAnimationClock implements ActionListener {
+
+    /**
+     * The shortest time between two pulses, expressed in milliseconds.
+     */
+    public static final int PULSE = 1000 / 60;
+
+    private static final MaterialAnimationClock SINGLETON = new MaterialAnimationClock();
+
+    public static MaterialAnimationClock getInstance() {
+        return SINGLETON;
+    }
+
+    private final List<MaterialAnimation> animations = new ArrayList<>();
+    private final Timer timer;
+
+    private MaterialAnimationClock() {
+        this.timer = new Timer(PULSE, this);
+        this.timer.setCoalesce(true);
+    }
+
+    public void start(MaterialAnimation animation) {
+        if (animation == null) {
+            throw new IllegalArgumentException("Animation is null");
+        }
+        if (!animations.contains(animation)) {
+            animations.add(animation);
+            updateDelay();
+        }
+        if (!timer.isRunning()) {
+            timer.start();
+        }
+    }
+
+    public void stop(MaterialAnimation animation) {
+        if (!animations.remove(animation)) {
+            return;
+        }
+        if (animations.isEmpty()) {
+            if (timer.isRunning()) {
+                timer.stop();
+            }
+        } else {
+            updateDelay();
+        }
+    }
+
+    private void updateDelay() {
+        int delay = Integer.MAX_VALUE;
+        for (MaterialAnimation animation : animations) {
+            delay = Math.min(delay, animation.getInterval());
+        }
+        delay = Math.max(PULSE, delay);
+        if (delay != timer.getDelay()) {
+            timer.setDelay(delay);
+            timer.setInitialDelay(delay);
+        }
+    }
+
+    /**
+     * @return the time between two pulses, expressed in milliseconds.
+     */
+    public int getDelay() {
+        return timer.getDelay();
+    }
+
+    public boolean isRunning(MaterialAnimation animation) {
+        return animation != null && animations.contains(animation);
+    }
+
+    /**
+     * @return the number of animation registered, the clock is running only when this value is greater than zero.
+     */
+    public int getActiveAnimations() {
+        return animations.size();
+    }
+
+    public boolean isRunning() {
+        return timer.isRunning();
+    }
+
+    /**
+     * The animations are visited from the last one because an animation can remove itself from the clock
+     * inside the onPulse method.
+     */
+    @Override
+    public void actionPerformed(ActionEvent e) {
+        long now = System.nanoTime() / 1000000L;
+        for (int i = animations.size() - 1; i >= 0; i--) {
+            if (i >= animations.size()) {
+                //an animation removed some other animations inside the pulse
+                i = animations.size();
+                continue;
+            }
+            animations.get(i).onPulse(now);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.animation;
+
+import javax.swing.plaf.ColorUIResource;
+import java.awt.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class contains a precomputed fade from a color to another color, all colors of the ramp
+ * are created only one time and shared between all component that use the same colors, for example
+ * all buttons with the same theme.
+ *
+ * The element at the index 0 is the start color and the element at the index steps is the end color,
+ * so the fade finish exactly on the end color.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public class MaterialColorRamp {
+
+    private static final int MAX_CACHE_SIZE = 256;
+    private static final Map<RampKey, MaterialColorRamp> CACHE = new ConcurrentHashMap<>();
+
+    public static MaterialColorRamp getRamp(Color from, Color to, int steps) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Color from or/and to is/are null");
+        }
+        if (steps <= 0) {
+            throw new IllegalArgumentException("The steps must be greater than zero");
+        }
+        RampKey key = new RampKey(from.getRGB(), to.getRGB(), steps);
+        MaterialColorRamp ramp = CACHE.get(key);
+        if (ramp == null) {
+            if (CACHE.size() >= MAX_CACHE_SIZE) {
+                //The ramps created with theme colors are few, this happens only with a lot of custom colors
+                CACHE.clear();
+            }
+            ramp = new MaterialColorRamp(from, to, steps);
+            MaterialColorRamp oldRamp = CACHE.putIfAbsent(key, ramp);
+            if (oldRamp != null) {
+                ramp = oldRamp;
+            }
+        }
+        return ramp;
+    }
+
+    private final ColorUIResource[] colors;
+
+    private MaterialColorRamp(Color from, Color to, int steps) {
+        this.colors = new ColorUIResource[steps + 1];
+        for (int i = 0; i <= steps; i++) {
+            colors[i] = new ColorUIResource(new Color(
+                    interpolate(from.getRed(), to.getRed(), i, steps),
+                    interpolate(from.getGreen(), to.getGreen(), i, steps),
+                    interpolate(from.getBlue(), to.getBlue(), i, steps),
+                    interpolate(from.getAlpha(), to.getAlpha(), i, steps)
+            ));
+        }
+    }
+
+    /**
+     * @return the color at the step index, the index is clamped inside the range [0, steps]
+     */
+    public ColorUIResource get(int index) {
+        if (index < 0) {
+            return colors[0];
+        } else if (index >= colors.length) {
+            return colors[colors.length - 1];
+        }
+        return colors[index];
+    }
+
+    public int getSteps() {
+        return colors.length - 1;
+    }
+
+    private static int interpolate(int from, int to, int step, int steps) {
+        return from + Math.round((to - from) * (float) step / steps);
+    }
+
+    private static final class RampKey {
+
+        private final int from;
+        private final int to;
+        private final int steps;
+
+        private RampKey(int from, int to, int steps) {
+            this.from = from;
+            this.to = to;
+            this.steps = steps;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RampKey)) {
+                return false;
+            }
+            RampKey rampKey = (RampKey) o;
+            return from == rampKey.from && to == rampKey.to && steps == rampKey.steps;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * from + to) + steps;
+        }
+    }
+}
@@ -26,7 +26,6 @@ package mdlaf.animation;
 
 import mdlaf.components.button.MaterialButtonUI;
 import javax.swing.*;
-import javax.swing.plaf.ColorUIResource;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -38,20 +37,24 @@ import java.awt.event.MouseEvent;
  * This event call component.setBackground() inside the timer
  * it should be managed the live cycle more complex
  *
+ * The timer is not owned by this class, the animation is registered on the shared {@link MaterialAnimationClock}
+ * only while it is running.
+ *
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialUITimer implements ActionListener, MaterialMouseHover {
+public class MaterialUITimer implements ActionListener, MaterialMouseHover, MaterialAnimation {
 
     private Color from;
     private Color to;
     private boolean forward;
     private int alpha;
     private int steps;
-    private int[] forwardDeltas;
-    private int[] backwardDeltas;
+    private MaterialColorRamp ramp;
     private JComponent component;
-    private Timer timer;
+    private int interval;
+    private boolean firstFrame;
+    private long nextFrame;
     /**
      * @deprecated This propriety will be remove in the version 1.2, the solution now was resolved to MaterialButtonUI
      * API.
@@ -83,43 +86,21 @@ public class MaterialUITimer implements ActionListener, MaterialMouseHover {
         }
         this.to = to;
 
-        this.forwardDeltas = new int[4];
-        this.backwardDeltas = new int[4];
-
-        forwardDeltas[0] = (from.getRed() - to.getRed()) / steps;
-        forwardDeltas[1] = (from.getGreen() - to.getGreen()) / steps;
-        forwardDeltas[2] = (from.getBlue() - to.getBlue()) / steps;
-        forwardDeltas[3] = (from.getAlpha() - to.getAlpha()) / steps;
-
-        backwardDeltas[0] = (to.getRed() - from.getRed()) / steps;
-        backwardDeltas[1] = (to.getGreen() - from.getGreen()) / steps;
-        backwardDeltas[2] = (to.getBlue() - from.getBlue()) / steps;
-        backwardDeltas[3] = (to.getAlpha() - from.getAlpha()) / steps;
-
+        this.ramp = MaterialColorRamp.getRamp(from, to, steps);
         this.steps = steps;
 
         this.component = component;
         //this.component.addMouseListener(this);
-        timer = new Timer(interval, this);
+        this.interval = interval;
         component.setBackground(from);
     }
 
-    private Color nextColor() {
-        int rValue = from.getRed() - alpha * forwardDeltas[0];
-        int gValue = from.getGreen() - alpha * forwardDeltas[1];
-        int bValue = from.getBlue() - alpha * forwardDeltas[2];
-        int aValue = from.getAlpha() - alpha * forwardDeltas[3];
-
-        return new ColorUIResource(new Color(rValue, gValue, bValue, aValue));
-    }
-
-    private Color previousColor() {
-        int rValue = to.getRed() - (steps - alpha) * backwardDeltas[0];
-        int gValue = to.getGreen() - (steps - alpha) * backwardDeltas[1];
-        int bValue = to.getBlue() - (steps - alpha) * backwardDeltas[2];
-        int aValue = to.getAlpha() - (steps - alpha) * backwardDeltas[3];
-
-        return new ColorUIResource(new Color(rValue, gValue, bValue, aValue));
+    /**
+     * The colors are taken from a shared {@link MaterialColorRamp}, so a frame doesn't allocate
+     * and the first and last frame are exactly the colors from and to.
+     */
+    private Color currentColor() {
+        return ramp.get(alpha);
     }
 
     @Override
@@ -146,12 +127,12 @@ public class MaterialUITimer implements ActionListener, MaterialMouseHover {
         if (!me.getComponent().isEnabled()) {
             return;
         }
-        if (timer.isRunning()) {
-            timer.stop();
+        if (isRunning()) {
+            MaterialAnimationClock.getInstance().stop(this);
         }
         alpha = steps - 1;
         forward = false;
-        timer.start();
+        startTimer();
         //this.component.setBackground(this.from);
     }
 
@@ -163,7 +144,35 @@ public class MaterialUITimer implements ActionListener, MaterialMouseHover {
         alpha = 0;
         forward = true;
         this.stopTimer();
-        timer.start();
+        startTimer();
+    }
+
+    /**
+     * This method is called by the {@link MaterialAnimationClock} for each pulse, the clock can be faster than
+     * the interval of this animation so the frame is skipped when the pulse is nearer to the next frame.
+     * The time of the next frame is incremented by the interval, so the animation doesn't drift with the pulses.
+     */
+    @Override
+    public void onPulse(long now) {
+        if (firstFrame) {
+            firstFrame = false;
+            nextFrame = now;
+        }
+        if (now - nextFrame < -(interval / 2)) {
+            return;
+        }
+        if (now - nextFrame >= interval) {
+            //the event dispatch thread was busy, the frames lost are not painted
+            nextFrame = now + interval;
+        } else {
+            nextFrame += interval;
+        }
+        actionPerformed(null);
+    }
+
+    @Override
+    public int getInterval() {
+        return interval;
     }
 
     /**
@@ -181,14 +190,13 @@ public class MaterialUITimer implements ActionListener, MaterialMouseHover {
                 }*/
               //  timer.stop();
             //}
-            timer.stop();
+            MaterialAnimationClock.getInstance().stop(this);
             return;
         }
+        component.setBackground(currentColor());
         if (forward) {
-            component.setBackground(nextColor());
             ++alpha;
         } else {
-            component.setBackground(previousColor());
             --alpha;
         }
         if (alpha == steps + 1 || alpha == -1) {
@@ -246,23 +254,28 @@ public class MaterialUITimer implements ActionListener, MaterialMouseHover {
      */
     protected void stopTimer(){
         if (component != null && component.isEnabled()) {
-            if (timer != null && timer.isRunning()) {
+            if (isRunning()) {
             /*    if ((component instanceof JButton) &&
                         wrapperInformationsButton != null) {
                     JButton buttonComponent = (JButton) component;
                     wrapperInformationsButton.setOriginValues(buttonComponent);
                 }*/
-                timer.stop();
+                MaterialAnimationClock.getInstance().stop(this);
             }
         }
     }
 
+    /**
+     * Register the animation on the shared clock, the first frame is painted on the next pulse.
+     */
+    protected void startTimer(){
+        firstFrame = true;
+        MaterialAnimationClock.getInstance().start(this);
+    }
+
     @Override
     public boolean isRunning() {
-        if(timer != null){
-            return timer.isRunning();
-        }
-        return false;
+        return MaterialAnimationClock.getInstance().isRunning(this);
     }
 
     /**
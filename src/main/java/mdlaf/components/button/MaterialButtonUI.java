@@ -24,22 +24,32 @@
  */
 package mdlaf.components.button;
 
+import mdlaf.animation.MaterialAnimation;
+import mdlaf.animation.MaterialAnimationClock;
 import mdlaf.animation.MaterialMouseHover;
 import mdlaf.animation.MaterialUIMovement;
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicButtonListener;
 import javax.swing.plaf.basic.BasicButtonUI;
 import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialButtonUI extends BasicButtonUI {
+public class MaterialButtonUI extends BasicButtonUI implements MaterialThemeRefreshable {
+
+    private static final String DEFAULT_BUTTON_EVENT = "defaultButton";
+    protected static final Stroke FOCUS_STROKE = new BasicStroke(1, BasicStroke.CAP_SQUARE, BasicStroke.JOIN_MITER, 10.0f, new float[]{0f, 3f}, 10.0f);
+    protected static final Stroke BORDER_STROKE = new BasicStroke(2f);
 
     public static ComponentUI createUI(final JComponent c) {
         return new MaterialButtonUI();
@@ -56,6 +66,8 @@ public class MaterialButtonUI extends BasicButtonUI {
     protected Color colorMouseHoverDefaultButton;
     protected Color colorMouseHoverNormalButton;
     protected Color borderColor;
+    protected Color focusColor;
+    protected Color defaultFocusColor;
     protected Boolean defaultButton;
     protected Boolean borderEnabled;
     protected int arch = 7;
@@ -64,6 +76,14 @@ public class MaterialButtonUI extends BasicButtonUI {
     protected boolean mouseHoverRunning = false;
     protected boolean buttonToolBarInit = false;
     protected MaterialMouseHover mouseHover;
+    protected HierarchyListener hierarchyListener = new MaterialHierarchyListener();
+    protected PropertyChangeListener defaultButtonListener = new MaterialDefaultButtonListener();
+    protected JRootPane rootPane;
+    /**
+     * This is resolved by the listeners when the button changes toolbar, default button or icon,
+     * so the paint does not compute it each time.
+     */
+    protected boolean borderPainted;
 
     /**
      * Inside the installUI method are init only proprieties used inside this component
@@ -74,6 +94,37 @@ public class MaterialButtonUI extends BasicButtonUI {
         super.installUI(c);
 
         AbstractButton button = (AbstractButton) c;
+        if (mouseHoverEnabled == null) {
+            mouseHoverEnabled = UIManager.getBoolean("Button.mouseHoverEnable");
+        }
+        this.button = button;
+        installStyle(button);
+        updateToolBarButton();
+        updateRootPane();
+    }
+
+    /**
+     * The mouse hover animation is stopped and the style is read again from the theme, after that the toolbar
+     * and the default button styles are applied again like when the button is added inside its container.
+     */
+    @Override
+    public void refreshTheme(JComponent c) {
+        if (mouseHover != null) {
+            button.removeMouseListener(mouseHover);
+            if (mouseHover instanceof MaterialAnimation) {
+                MaterialAnimationClock.getInstance().stop((MaterialAnimation) mouseHover);
+            }
+            mouseHover = null;
+        }
+        installStyle(button);
+        buttonToolBarInit = false;
+        defaultButton = null;
+        updateToolBarButton();
+        updateDefaultButton();
+        updateRenderState();
+    }
+
+    protected void installStyle(AbstractButton button) {
         button.setOpaque(UIManager.getBoolean("Button.opaque"));
         foreground = UIManager.getColor("Button.foreground");
         background = UIManager.getColor("Button.background");
@@ -84,11 +135,10 @@ public class MaterialButtonUI extends BasicButtonUI {
         colorMouseHoverNormalButton = UIManager.getColor("Button.mouseHoverColor");
         colorMouseHoverDefaultButton = UIManager.getColor("Button[Default].mouseHoverColor");
         borderColor = UIManager.getColor("Button[border].color");
+        focusColor = UIManager.getColor("Button[focus].color");
+        defaultFocusColor = UIManager.getColor("Button[Default][focus].color");
         borderEnabled = UIManager.getBoolean("Button[border].enable");
         buttonBorderToAll = UIManager.getBoolean("Button[border].toAll");
-        if (mouseHoverEnabled == null) {
-            mouseHoverEnabled = UIManager.getBoolean("Button.mouseHoverEnable");
-        }
         this.arch = UIManager.getInt("Button.arc");
         if (mouseHoverEnabled) {
             JButton b = (JButton) button;
@@ -98,7 +148,6 @@ public class MaterialButtonUI extends BasicButtonUI {
             }
         }
         button.setFocusable(UIManager.getBoolean("Button.focusable"));
-        this.button = button;
     }
 
     /**
@@ -123,6 +172,7 @@ public class MaterialButtonUI extends BasicButtonUI {
         disabledForeground = null;
         defaultBackground = null;
         defaultForeground = null;
+        defaultButton = null;
         buttonToolBarInit = false;
         button.setCursor(Cursor.getDefaultCursor());
     }
@@ -133,24 +183,8 @@ public class MaterialButtonUI extends BasicButtonUI {
         if (b.isContentAreaFilled()) {
             paintBackground(g, b);
         }
-        if (defaultButton == null && b.isEnabled()) {
-            defaultButton = ((JButton) button).isDefaultButton();
-            if (defaultButton) {
-                if (mouseHoverEnabled) {
-                    b.removeMouseListener(this.mouseHover);
-                    this.mouseHover = MaterialUIMovement.getMovement(b, colorMouseHoverDefaultButton);
-                    b.addMouseListener(this.mouseHover);
-                }
-                b.setBackground(defaultBackground);
-                b.setForeground(defaultForeground);
-            }
-        }
-        if (borderEnabled != null && borderEnabled) {
-            if (buttonBorderToAll && !b.isDefaultButton()) {
-                paintBorderButton(g, b);
-            } else if (b.getIcon() == null && !b.isDefaultButton()) {
-                paintBorderButton(g, b);
-            }
+        if (borderPainted) {
+            paintBorderButton(g, b);
         }
         super.paint(g, c);
     }
@@ -176,28 +210,77 @@ public class MaterialButtonUI extends BasicButtonUI {
      */
     protected void paintBackground(Graphics g, JComponent c) {
         g = MaterialDrawingUtils.getAliasedGraphics(g);
-        Graphics2D graphics = (Graphics2D) g.create();
-        if (c.isEnabled()) {
-            if (defaultButton != null && defaultButton) {
-                graphics.setColor(defaultBackground);
-            }
-            graphics.setColor(c.getBackground());
-        } else {
-            graphics.setColor(disabledBackground);
+        g.setColor(c.isEnabled() ? c.getBackground() : disabledBackground);
+        g.fillRoundRect(0, 0, c.getWidth(), c.getHeight(), arch, arch);
+    }
+
+    /**
+     * The button inside a JToolBar does not have the border and use the background of the toolbar,
+     * this is called when the button is added inside a container and not inside the paint method,
+     * because the setters inside the paint method schedule an other repaint.
+     */
+    protected void updateToolBarButton() {
+        if (buttonToolBarInit || !this.isToolBarButton(button)) {
+            return;
+        }
+        borderEnabled = false;
+        mouseHoverEnabled = UIManager.getBoolean("ToolBar[button].mouseHover");
+        button.removeMouseListener(mouseHover);
+        button.setBackground(UIManager.getColor("ToolBar.background"));
+        if (mouseHoverEnabled) {
+            //reset original color inside mouse color
+            mouseHover = MaterialUIMovement.getMovement(button, colorMouseHoverNormalButton);
+            button.addMouseListener(mouseHover);
         }
-        graphics.fillRoundRect(0, 0, c.getWidth(), c.getHeight(), arch, arch);
-        graphics.dispose();
-        if (!buttonToolBarInit && this.isToolBarButton(c)) {
-            borderEnabled = false;
-            mouseHoverEnabled = UIManager.getBoolean("ToolBar[button].mouseHover");
-            c.removeMouseListener(mouseHover);
-            c.setBackground(UIManager.getColor("ToolBar.background"));
-            if (mouseHoverEnabled) {
-                //reset original color inside mouse color
-                mouseHover = MaterialUIMovement.getMovement(c, colorMouseHoverNormalButton);
-                c.addMouseListener(mouseHover);
+        this.buttonToolBarInit = true;
+        updateRenderState();
+    }
+
+    /**
+     * The JRootPane fires the change of the default button only on itself, so the button listens
+     * the root pane where it is, and this method moves the listener when the button changes root pane.
+     */
+    protected void updateRootPane() {
+        JRootPane root = SwingUtilities.getRootPane(button);
+        if (root != rootPane) {
+            if (rootPane != null) {
+                rootPane.removePropertyChangeListener(DEFAULT_BUTTON_EVENT, defaultButtonListener);
             }
-            this.buttonToolBarInit = true;
+            rootPane = root;
+            if (rootPane != null) {
+                rootPane.addPropertyChangeListener(DEFAULT_BUTTON_EVENT, defaultButtonListener);
+            }
+        }
+        updateDefaultButton();
+        updateRenderState();
+    }
+
+    protected void updateRenderState() {
+        borderPainted = borderEnabled != null && borderEnabled && !isDefaultButton()
+                && (buttonBorderToAll || button.getIcon() == null);
+    }
+
+    protected void updateDefaultButton() {
+        boolean isDefault = button instanceof JButton && ((JButton) button).isDefaultButton();
+        if (defaultButton != null && defaultButton == isDefault) {
+            return;
+        }
+        boolean wasDefault = defaultButton != null && defaultButton;
+        defaultButton = isDefault;
+        if (!isDefault && !wasDefault) {
+            return;
+        }
+        if (mouseHoverEnabled) {
+            button.removeMouseListener(this.mouseHover);
+            this.mouseHover = MaterialUIMovement.getMovement(button, isDefault ? colorMouseHoverDefaultButton : colorMouseHoverNormalButton);
+            button.addMouseListener(this.mouseHover);
+        }
+        if (isDefault) {
+            button.setBackground(defaultBackground);
+            button.setForeground(defaultForeground);
+        } else {
+            button.setBackground(background);
+            button.setForeground(foreground);
         }
     }
 
@@ -209,8 +292,13 @@ public class MaterialButtonUI extends BasicButtonUI {
 
     @Override
     public void update(Graphics g, JComponent c) {
-        super.update(g, c);
-        paintBorderButton(g, c);
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+            paintBorderButton(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
     }
 
     @Override
@@ -243,39 +331,40 @@ public class MaterialButtonUI extends BasicButtonUI {
     @Override
     protected void installListeners(AbstractButton b) {
         super.installListeners(b);
+        b.addHierarchyListener(hierarchyListener);
     }
 
     @Override
     protected void uninstallListeners(AbstractButton b) {
         b.removePropertyChangeListener(enableButton);
+        b.removeHierarchyListener(hierarchyListener);
+        if (rootPane != null) {
+            rootPane.removePropertyChangeListener(DEFAULT_BUTTON_EVENT, defaultButtonListener);
+            rootPane = null;
+        }
         super.uninstallListeners(b);
         b.removeMouseListener(mouseHover);
     }
 
     protected void paintFocusRing(Graphics g, JButton b) {
-        Stroke dashed = new BasicStroke(1, BasicStroke.CAP_SQUARE, BasicStroke.JOIN_MITER, 10.0f, new float[]{0f, 3f}, 10.0f);
-        Graphics2D g2 = (Graphics2D) g.create();
-        g2.setStroke(dashed);
+        Graphics2D g2 = (Graphics2D) g;
+        Stroke oldStroke = g2.getStroke();
+        g2.setStroke(FOCUS_STROKE);
         if (defaultButton != null && defaultButton) {
-            g2.setColor(UIManager.getColor("Button[Default][focus].color"));
+            g2.setColor(defaultFocusColor);
         } else {
-            g2.setColor(UIManager.getColor("Button[focus].color"));
+            g2.setColor(focusColor);
         }
         g2.drawRoundRect(5, 5, b.getWidth() - 10, b.getHeight() - 10, arch, arch);
-        g2.dispose();
+        g2.setStroke(oldStroke);
     }
 
     protected void paintBorderButton(Graphics graphics, JComponent b) {
-        if (!b.isEnabled() || !borderEnabled) {
-            return;
-        } else if (!buttonBorderToAll && ((JButton) b).getIcon() != null) {
-            return;
-        } else if (this.isDefaultButton()) {
+        if (!b.isEnabled() || !borderPainted) {
             return;
         }
         Graphics2D graphics2D = (Graphics2D) graphics.create();
-        graphics2D.setStroke(new BasicStroke(2f));
-
+        graphics2D.setStroke(BORDER_STROKE);
         graphics2D.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         int w = b.getWidth() - 1;
         int h = b.getHeight() - 1;
@@ -487,6 +576,7 @@ public class MaterialButtonUI extends BasicButtonUI {
         private static final String BACKGROUND_EVENT = "background";
         private static final String FOREGROUND_EVENT = "foreground";
         private static final String ENABLED_EVENT = "enabled";
+        private static final String ICON_EVENT = AbstractButton.ICON_CHANGED_PROPERTY;
 
         @Override
         public void propertyChange(PropertyChangeEvent evt) {
@@ -494,6 +584,10 @@ public class MaterialButtonUI extends BasicButtonUI {
                 throw new IllegalArgumentException("The event null");
             }
 
+            if (evt.getPropertyName().equals(ICON_EVENT)) {
+                updateRenderState();
+                return;
+            }
             if (evt.getPropertyName().equals(ENABLED_EVENT) && (boolean) evt.getNewValue()) {
                 //When on the JButton does call the method setEnable(true)
                 if (defaultButton != null && defaultButton) {
@@ -507,15 +601,45 @@ public class MaterialButtonUI extends BasicButtonUI {
             else if (evt.getPropertyName().equals(BACKGROUND_EVENT) && button.isEnabled()) {
                 //When on the JButton call the method setBackground
                 if (mouseHover != null && !mouseHover.isRunning()) {
-                    background = (Color) evt.getNewValue();
+                    if (isDefaultButton()) {
+                        defaultBackground = (Color) evt.getNewValue();
+                    } else {
+                        background = (Color) evt.getNewValue();
+                    }
                 }
             } else if (evt.getPropertyName().equals(FOREGROUND_EVENT) && button.isEnabled()) {
                 //When on the JButton call the method setForeground
                 if (mouseHover != null && !mouseHover.isRunning()) {
-                    foreground = (Color) evt.getNewValue();
+                    if (isDefaultButton()) {
+                        defaultForeground = (Color) evt.getNewValue();
+                    } else {
+                        foreground = (Color) evt.getNewValue();
+                    }
                 }
             }
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * This class updates the toolbar style and the default button when the button is added inside a new container.
+     */
+    protected class MaterialHierarchyListener implements HierarchyListener {
+
+        @Override
+        public void hierarchyChanged(HierarchyEvent e) {
+            if ((e.getChangeFlags() & HierarchyEvent.PARENT_CHANGED) != 0) {
+                updateToolBarButton();
+                updateRootPane();
+            }
+        }
+    }
+
+    protected class MaterialDefaultButtonListener implements PropertyChangeListener {
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            updateDefaultButton();
+            updateRenderState();
+        }
+    }
+}
@@ -25,7 +25,9 @@
 package mdlaf.components.checkbox;
 
 import mdlaf.animation.MaterialMouseHover;
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
@@ -37,12 +39,22 @@ import java.awt.event.MouseEvent;
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialCheckBoxUI extends BasicCheckBoxUI {
+public class MaterialCheckBoxUI extends BasicCheckBoxUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialCheckBoxUI();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     protected JCheckBox checkBox;
     protected Color disabledForeground;
     protected boolean isHover;
@@ -190,4 +202,9 @@ public class MaterialCheckBoxUI extends BasicCheckBoxUI {
             return unselectedIcon.getIconHeight();
         }
     }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults((AbstractButton) c);
+    }
 }
@@ -24,6 +24,9 @@
  */
 package mdlaf.components.checkboxmenuitem;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicCheckBoxMenuItemUI;
@@ -32,7 +35,7 @@ import java.awt.*;
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialCheckBoxMenuItemUI extends BasicCheckBoxMenuItemUI {
+public class MaterialCheckBoxMenuItemUI extends BasicCheckBoxMenuItemUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialCheckBoxMenuItemUI();
@@ -50,6 +53,16 @@ public class MaterialCheckBoxMenuItemUI extends BasicCheckBoxMenuItemUI {
         super.uninstallUI(c);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         super.paint(g, c);
@@ -64,4 +77,9 @@ public class MaterialCheckBoxMenuItemUI extends BasicCheckBoxMenuItemUI {
         }
         super.paintMenuItem(g, checkBoxMenuItem, UIManager.getIcon("CheckBoxMenuItem.checkIcon"), arrowIcon, background, foreground, defaultTextIconGap);
     }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults();
+    }
 }
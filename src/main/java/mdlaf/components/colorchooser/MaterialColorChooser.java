@@ -24,9 +24,12 @@
  */
 package mdlaf.components.colorchooser;
 
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicColorChooserUI;
+import java.awt.*;
 
 /**
  * @author https://github.com/vincenzopalazzo
@@ -48,4 +51,14 @@ public class MaterialColorChooser extends BasicColorChooserUI {
     public void uninstallUI(JComponent c) {
         super.uninstallUI(c);
     }
+
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
 }
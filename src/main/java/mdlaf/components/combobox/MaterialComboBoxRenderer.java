@@ -25,6 +25,7 @@
 package mdlaf.components.combobox;
 
 import javax.swing.*;
+import javax.swing.border.Border;
 import javax.swing.plaf.basic.BasicComboBoxRenderer;
 import java.awt.*;
 
@@ -34,10 +35,18 @@ import java.awt.*;
  */
 public class MaterialComboBoxRenderer extends BasicComboBoxRenderer {
 
+	protected Border itemBorder;
+
+	@Override
+	public void updateUI() {
+		super.updateUI();
+		itemBorder = UIManager.getBorder("ComboBox.borderItems");
+	}
+
 	@Override
 	public Component getListCellRendererComponent (JList list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
 		super.getListCellRendererComponent (list, value, index, isSelected, cellHasFocus);
-		setBorder(UIManager.getBorder("ComboBox.borderItems"));
+		setBorder(itemBorder);
 		return this;
 	}
 }
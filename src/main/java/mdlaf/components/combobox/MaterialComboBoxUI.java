@@ -26,8 +26,11 @@ package mdlaf.components.combobox;
 
 import mdlaf.animation.MaterialUIMovement;
 import mdlaf.components.button.MaterialButtonUI;
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialBorders;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
+import mdlaf.utils.MaterialThemeRefresher;
 
 import javax.swing.*;
 import javax.swing.border.Border;
@@ -44,7 +47,7 @@ import java.awt.event.FocusListener;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialComboBoxUI extends BasicComboBoxUI {
+public class MaterialComboBoxUI extends BasicComboBoxUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialComboBoxUI();
@@ -68,6 +71,28 @@ public class MaterialComboBoxUI extends BasicComboBoxUI {
 
     }
 
+    /**
+     * The popup and the editor are not inside the component tree when they are not visible,
+     * so they are refreshed by the combo box.
+     */
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults();
+        background = UIManager.getColor("ComboBox.background");
+        comboBox.setFocusable(UIManager.getBoolean("ComboBox.focusable"));
+        this.disabledBorder = MaterialBorders.roundedLineColorBorder(UIManager.getColor("ComboBox.disabledColor"), arc);
+        if (focusListener != null) {
+            focusListener.refreshTheme(comboBox);
+        }
+        if (popup instanceof MaterialComboBoxPopup) {
+            ((MaterialComboBoxPopup) popup).refreshTheme();
+        }
+        ComboBoxEditor editor = comboBox.getEditor();
+        if (editor != null && editor.getEditorComponent() != null && !comboBox.isEditable()) {
+            MaterialThemeRefresher.refreshComponentTree(editor.getEditorComponent());
+        }
+    }
+
     @Override
     protected void installDefaults() {
         super.installDefaults();
@@ -120,10 +145,15 @@ public class MaterialComboBoxUI extends BasicComboBoxUI {
 
     @Override
     public void update(Graphics g, JComponent c) {
-        g = MaterialDrawingUtils.getAliasedGraphics(g);
-        g.setColor(c.getBackground());
-        g.fillRoundRect(0, 0, comboBox.getWidth(), comboBox.getHeight(), arc, arc);
-        paint(g, c);
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            g = MaterialDrawingUtils.getAliasedGraphics(g);
+            g.setColor(c.getBackground());
+            g.fillRoundRect(0, 0, comboBox.getWidth(), comboBox.getHeight(), arc, arc);
+            paint(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
     }
 
     @Override
@@ -197,10 +227,29 @@ public class MaterialComboBoxUI extends BasicComboBoxUI {
         protected Border disabled;
 
         public FocusListenerColor() {
+            installBorders();
+        }
+
+        protected void installBorders() {
             focus = MaterialBorders.roundedLineColorBorder(UIManager.getColor("ComboBox.focusColor"), arc);
             unfocus = MaterialBorders.roundedLineColorBorder(UIManager.getColor("ComboBox.unfocusColor"), arc);
         }
 
+        /**
+         * The borders are created again with the colors of the theme, and the border of the combo box
+         * is replaced if it was set by this listener.
+         */
+        public void refreshTheme(JComboBox cb) {
+            Border oldFocus = focus;
+            Border oldUnfocus = unfocus;
+            installBorders();
+            if (cb.getBorder() == oldFocus) {
+                cb.setBorder(focus);
+            } else if (cb.getBorder() == oldUnfocus) {
+                cb.setBorder(unfocus);
+            }
+        }
+
         @Override
         public void focusGained(FocusEvent e) {
             if (e.getComponent() == null) {
@@ -233,6 +282,19 @@ public class MaterialComboBoxUI extends BasicComboBoxUI {
             setBorder(UIManager.getBorder("ComboBox[listItem].border"));
         }
 
+        /**
+         * The list of the popup uses the colors of the combo box, like inside the BasicComboPopup.configureList.
+         */
+        public void refreshTheme() {
+            MaterialThemeRefresher.refreshComponentTree(this);
+            setBorder(UIManager.getBorder("ComboBox[listItem].border"));
+            list.setFont(comboBox.getFont());
+            list.setForeground(comboBox.getForeground());
+            list.setBackground(comboBox.getBackground());
+            list.setSelectionForeground(UIManager.getColor("ComboBox.selectionForeground"));
+            list.setSelectionBackground(UIManager.getColor("ComboBox.selectionBackground"));
+        }
+
         @Override
         public void show() {
             super.show();
@@ -273,12 +335,25 @@ public class MaterialComboBoxUI extends BasicComboBoxUI {
                 borderEnabled = false;
                 mouseHoverEnabled = false;
                 super.installUI(c);
+                installArrowStyle(c);
+            }
+
+            @Override
+            public void refreshTheme(JComponent c) {
+                mouseHoverEnabled = false;
+                super.refreshTheme(c);
+                installArrowStyle(c);
+            }
+
+            protected void installArrowStyle(JComponent c) {
                 super.background = UIManager.getColor("ComboBox.buttonBackground");
                 super.disabledBackground = super.background;
                 c.setBackground(super.background);
                 mouseHoverEnabled = UIManager.getBoolean("ComboBox.mouseHoverEnabled");
                 if (mouseHoverEnabled) {
-                    c.addMouseListener(MaterialUIMovement.getMovement(arrowButton, UIManager.getColor("ComboBox.mouseHoverColor")));
+                    // The mouse hover is kept inside the field, so refreshTheme can remove it
+                    super.mouseHover = MaterialUIMovement.getMovement(arrowButton, UIManager.getColor("ComboBox.mouseHoverColor"));
+                    c.addMouseListener(super.mouseHover);
                 }
                 this.button.setIcon(new ArrowIcon("ComboBox."));
                 c.setBorder(UIManager.getBorder("ComboBox[button].border"));
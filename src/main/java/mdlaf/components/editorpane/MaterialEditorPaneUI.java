@@ -24,16 +24,37 @@
  */
 package mdlaf.components.editorpane;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+import mdlaf.utils.MaterialThemeRefresher;
+
 import javax.swing.JComponent;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicEditorPaneUI;
+import javax.swing.text.JTextComponent;
+import java.awt.Graphics;
 
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialEditorPaneUI extends BasicEditorPaneUI {
+public class MaterialEditorPaneUI extends BasicEditorPaneUI implements MaterialThemeRefreshable {
 
 	public static ComponentUI createUI (JComponent c) {
 		return new MaterialEditorPaneUI ();
 	}
+
+	@Override
+	public void update(Graphics g, JComponent c) {
+		long start = MaterialPaintStatistics.beginPaint();
+		try {
+			super.update(g, c);
+		} finally {
+			MaterialPaintStatistics.endPaint(this, start);
+		}
+	}
+
+	@Override
+	public void refreshTheme(JComponent c) {
+		MaterialThemeRefresher.refreshTextColors((JTextComponent) c, getPropertyPrefix());
+	}
 }
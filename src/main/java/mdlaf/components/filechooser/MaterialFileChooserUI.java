@@ -24,9 +24,12 @@
  */
 package mdlaf.components.filechooser;
 
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.metal.MetalFileChooserUI;
+import java.awt.*;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 
@@ -53,6 +56,16 @@ public class MaterialFileChooserUI extends MetalFileChooserUI {
         return new MaterialFileChooserUI((JFileChooser) c);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void installUI(JComponent c) {
         super.installUI(c);
@@ -23,6 +23,8 @@
  */
 package mdlaf.components.internalframe;
 
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicInternalFrameUI;
@@ -56,6 +58,16 @@ public class MaterialInternalFrameUI extends BasicInternalFrameUI {
         super.uninstallUI(c);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         super.paint(g, c);
@@ -24,7 +24,9 @@
  */
 package mdlaf.components.label;
 
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
@@ -40,12 +42,22 @@ import java.awt.*;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialLabelUI extends BasicLabelUI {
+public class MaterialLabelUI extends BasicLabelUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialLabelUI();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void installUI(JComponent c) {
         super.installUI(c);
@@ -69,4 +81,9 @@ public class MaterialLabelUI extends BasicLabelUI {
         g.setColor(UIManager.getColor("Label.disabledForeground"));
         BasicGraphicsUtils.drawStringUnderlineCharAt(MaterialDrawingUtils.getAliasedGraphics(g), s, mnemIndex, textX, textY); //This isn't deprecated
     }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults((JLabel) c);
+    }
 }
\ No newline at end of file
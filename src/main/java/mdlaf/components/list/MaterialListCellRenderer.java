@@ -25,6 +25,7 @@
 package mdlaf.components.list;
 
 import javax.swing.*;
+import javax.swing.border.Border;
 import java.awt.*;
 
 /**
@@ -32,12 +33,19 @@ import java.awt.*;
  */
 public class MaterialListCellRenderer extends DefaultListCellRenderer {
 
+    protected Border itemBorder;
+
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        itemBorder = UIManager.getBorder("List[item].border");
+    }
 
     @Override
     public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
         Component component = super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
         JLabel label = (JLabel) component;
-        label.setBorder(UIManager.getBorder("List[item].border"));
+        label.setBorder(itemBorder);
         return component;
     }
 }
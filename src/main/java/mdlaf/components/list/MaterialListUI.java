@@ -23,6 +23,9 @@
  */
 package mdlaf.components.list;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicListUI;
@@ -31,13 +34,23 @@ import java.awt.*;
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialListUI extends BasicListUI {
+public class MaterialListUI extends BasicListUI implements MaterialThemeRefreshable {
 
     @SuppressWarnings({"MethodOverridesStaticMethodOfSuperclass", "UnusedDeclaration"})
     public static ComponentUI createUI(JComponent c) {
         return new MaterialListUI();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void installUI(JComponent c) {
         super.installUI(c);
@@ -50,5 +63,8 @@ public class MaterialListUI extends BasicListUI {
         super.uninstallUI(c);
     }
 
-
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults();
+    }
 }
@@ -23,6 +23,9 @@
  */
 package mdlaf.components.menu;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.event.ChangeListener;
 import javax.swing.plaf.ComponentUI;
@@ -35,12 +38,22 @@ import java.awt.event.MouseListener;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialMenuUI extends BasicMenuUI {
+public class MaterialMenuUI extends BasicMenuUI implements MaterialThemeRefreshable {
 
 	public static ComponentUI createUI (JComponent c) {
 		return new MaterialMenuUI ();
 	}
 
+	@Override
+	public void update(Graphics g, JComponent c) {
+		long start = MaterialPaintStatistics.beginPaint();
+		try {
+			super.update(g, c);
+		} finally {
+			MaterialPaintStatistics.endPaint(this, start);
+		}
+	}
+
 	protected MouseListener mouseHover;
 	protected JMenu menu;
 
@@ -125,4 +138,9 @@ public class MaterialMenuUI extends BasicMenuUI {
 			}
 		}
 	}
+
+	@Override
+	public void refreshTheme(JComponent c) {
+		installDefaults();
+	}
 }
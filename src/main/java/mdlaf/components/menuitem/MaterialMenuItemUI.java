@@ -24,7 +24,9 @@
  */
 package mdlaf.components.menuitem;
 
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
@@ -35,12 +37,22 @@ import java.awt.*;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialMenuItemUI extends BasicMenuItemUI {
+public class MaterialMenuItemUI extends BasicMenuItemUI implements MaterialThemeRefreshable {
 
 	public static ComponentUI createUI (JComponent c) {
 		return new MaterialMenuItemUI ();
 	}
 
+	@Override
+	public void update(Graphics g, JComponent c) {
+		long start = MaterialPaintStatistics.beginPaint();
+		try {
+			super.update(g, c);
+		} finally {
+			MaterialPaintStatistics.endPaint(this, start);
+		}
+	}
+
 	@Override
 	public void installUI (JComponent c) {
 		super.installUI (c);
@@ -57,4 +69,9 @@ public class MaterialMenuItemUI extends BasicMenuItemUI {
 	public void paint (Graphics g, JComponent c) {
 		super.paint (MaterialDrawingUtils.getAliasedGraphics (g), c);
 	}
+
+	@Override
+	public void refreshTheme(JComponent c) {
+		installDefaults();
+	}
 }
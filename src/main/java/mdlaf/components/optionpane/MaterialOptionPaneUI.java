@@ -24,6 +24,7 @@
 package mdlaf.components.optionpane;
 
 import mdlaf.utils.MaterialImageFactory;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
@@ -40,6 +41,16 @@ public class MaterialOptionPaneUI extends BasicOptionPaneUI {
         return new MaterialOptionPaneUI();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     protected Icon getIconForType(int messageType) {
         if(!UIManager.getBoolean("OptionPane.enableIcon")){
@@ -24,6 +24,9 @@
  */
 package mdlaf.components.panel;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicPanelUI;
@@ -33,7 +36,7 @@ import java.awt.*;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialPanelUI extends BasicPanelUI {
+public class MaterialPanelUI extends BasicPanelUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialPanelUI();
@@ -49,8 +52,23 @@ public class MaterialPanelUI extends BasicPanelUI {
         super.uninstallUI(c);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         super.paint(g, c);
     }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults((JPanel) c);
+    }
 }
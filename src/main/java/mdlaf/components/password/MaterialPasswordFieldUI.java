@@ -70,6 +70,12 @@ public class MaterialPasswordFieldUI extends MaterialComponentField{
         installMyDefaults(passwordField);
     }
 
+    @Override
+    public void refreshTheme(JComponent c) {
+        super.refreshTheme(c);
+        installMyDefaults(c);
+    }
+
     @Override
     protected void installDefaults() {
         super.installDefaults();
@@ -24,7 +24,9 @@
  */
 package mdlaf.components.popupmenu;
 
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.JComponent;
 import javax.swing.JPopupMenu;
@@ -37,7 +39,7 @@ import java.awt.Graphics;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialPopupMenuUI extends BasicPopupMenuUI {
+public class MaterialPopupMenuUI extends BasicPopupMenuUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialPopupMenuUI();
@@ -53,8 +55,23 @@ public class MaterialPopupMenuUI extends BasicPopupMenuUI {
         super.uninstallUI(c);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         super.paint(g, c);
     }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults();
+    }
 }
@@ -24,19 +24,33 @@
  */
 package mdlaf.components.progressbar;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicProgressBarUI;
+import java.awt.*;
 
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialProgressBarUI extends BasicProgressBarUI {
+public class MaterialProgressBarUI extends BasicProgressBarUI implements MaterialThemeRefreshable {
 
 	public static ComponentUI createUI (JComponent c) {
 		return new MaterialProgressBarUI ();
 	}
 
+	@Override
+	public void update(Graphics g, JComponent c) {
+		long start = MaterialPaintStatistics.beginPaint();
+		try {
+			super.update(g, c);
+		} finally {
+			MaterialPaintStatistics.endPaint(this, start);
+		}
+	}
+
 	@Override
 	public void installUI (JComponent c) {
 		super.installUI (c);
@@ -46,4 +60,9 @@ public class MaterialProgressBarUI extends BasicProgressBarUI {
 	public void uninstallUI(JComponent c) {
 		super.uninstallUI(c);
 	}
+
+	@Override
+	public void refreshTheme(JComponent c) {
+		installDefaults();
+	}
 }
@@ -25,7 +25,9 @@
 package mdlaf.components.radiobutton;
 
 import mdlaf.animation.MaterialMouseHover;
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
@@ -39,12 +41,22 @@ import java.awt.event.MouseEvent;
  * @author https://github.com/atarw
  * @author https://github.com/downToHell
  */
-public class MaterialRadioButtonUI extends MetalRadioButtonUI {
+public class MaterialRadioButtonUI extends MetalRadioButtonUI implements MaterialThemeRefreshable {
 
 	public static ComponentUI createUI (JComponent c) {
 		return new MaterialRadioButtonUI ();
 	}
 
+	@Override
+	public void update(Graphics g, JComponent c) {
+		long start = MaterialPaintStatistics.beginPaint();
+		try {
+			super.update(g, c);
+		} finally {
+			MaterialPaintStatistics.endPaint(this, start);
+		}
+	}
+
 	protected JRadioButton radioButton;
 	protected Boolean mouseHoverEnable;
 	protected Color mouseHoverColor;
@@ -227,4 +239,18 @@ public class MaterialRadioButtonUI extends MetalRadioButtonUI {
 			return adapter.getIconHeight();
 		}
 	}
+
+	@Override
+	public void refreshTheme(JComponent c) {
+		AbstractButton button = (AbstractButton) c;
+		if (this.mouseHoverEnable) {
+			button.removeMouseListener(this.mouseHover);
+		}
+		installDefaults(button);
+		if (this.mouseHoverEnable) {
+			button.addMouseListener(this.mouseHover);
+		}
+		this.mouseHoverColor = UIManager.getColor("RadioButton.mouseHoverColor");
+		icon = new MaterialRadioButtonIcon(this.getPropertyPrefix());
+	}
 }
\ No newline at end of file
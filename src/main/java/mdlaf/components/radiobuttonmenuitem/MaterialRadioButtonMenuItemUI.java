@@ -24,7 +24,9 @@
  */
 package mdlaf.components.radiobuttonmenuitem;
 
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
@@ -34,7 +36,7 @@ import java.awt.*;
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialRadioButtonMenuItemUI extends BasicRadioButtonMenuItemUI {
+public class MaterialRadioButtonMenuItemUI extends BasicRadioButtonMenuItemUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialRadioButtonMenuItemUI();
@@ -52,6 +54,16 @@ public class MaterialRadioButtonMenuItemUI extends BasicRadioButtonMenuItemUI {
         super.uninstallUI(c);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         super.paint(MaterialDrawingUtils.getAliasedGraphics(g), c);
@@ -67,4 +79,9 @@ public class MaterialRadioButtonMenuItemUI extends BasicRadioButtonMenuItemUI {
         }
         super.paintMenuItem(g, c, UIManager.getIcon("RadioButtonMenuItem.checkIcon"), arrowIcon, background, foreground, defaultTextIconGap);
     }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults();
+    }
 }
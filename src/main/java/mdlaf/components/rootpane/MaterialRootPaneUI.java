@@ -25,6 +25,8 @@
 package mdlaf.components.rootpane;
 
 import mdlaf.components.titlepane.MaterialTitlePaneUI;
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.event.MouseInputListener;
@@ -39,7 +41,7 @@ import java.beans.PropertyChangeEvent;
  * // This code is inside the Open JDK
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialRootPaneUI extends BasicRootPaneUI {
+public class MaterialRootPaneUI extends BasicRootPaneUI implements MaterialThemeRefreshable {
 
     protected static final String[] borderKeys = new String[]{
             null, "RootPane.frameBorder", "RootPane.plainDialogBorder",
@@ -53,6 +55,16 @@ public class MaterialRootPaneUI extends BasicRootPaneUI {
         return new MaterialRootPaneUI();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     protected Cursor myLastCursor = Cursor.getPredefinedCursor(Cursor.DEFAULT_CURSOR);
 
     protected Window window;
@@ -87,10 +99,13 @@ public class MaterialRootPaneUI extends BasicRootPaneUI {
         super();
         int devideWithd = 0;
         int deviceHeight = 0;
-        GraphicsDevice graphicDevices[] = GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices();
-        for (GraphicsDevice graphicsDevice : graphicDevices) {
-            devideWithd += graphicsDevice.getDisplayMode().getWidth();
-            deviceHeight += graphicsDevice.getDisplayMode().getHeight();
+        // Without a screen there aren't windows to move and the environment throws a HeadlessException
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsDevice graphicDevices[] = GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices();
+            for (GraphicsDevice graphicsDevice : graphicDevices) {
+                devideWithd += graphicsDevice.getDisplayMode().getWidth();
+                deviceHeight += graphicsDevice.getDisplayMode().getHeight();
+            }
         }
         this.dimensionDevices = new Dimension(devideWithd, deviceHeight);
         this.parentBounds = this.dimensionDevices;
@@ -1119,4 +1134,17 @@ public class MaterialRootPaneUI extends BasicRootPaneUI {
             LookAndFeel.installBorder(root, borderKeys[style]);
         }
     }
+
+    /**
+     * The window listeners and the layout are kept, only the border and the title pane are created again.
+     */
+    @Override
+    public void refreshTheme(JComponent c) {
+        root.setBackground(UIManager.getColor("RootPane.background"));
+        if (root.getWindowDecorationStyle() != JRootPane.NONE) {
+            installBorder(root);
+            setTitlePane(root, createTitlePane(root));
+            root.revalidate();
+        }
+    }
 }
@@ -26,25 +26,38 @@ package mdlaf.components.scrollbar;
 
 import mdlaf.animation.MaterialUIMovement;
 import mdlaf.components.button.MaterialButtonUI;
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
 import mdlaf.utils.MaterialImageFactory;
 import mdlaf.utils.MaterialManagerListener;
+import mdlaf.utils.MaterialPaintStatistics;
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicScrollBarUI;
 import java.awt.*;
+import java.awt.event.MouseListener;
 
 /**
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  * @author https://github.com/downToHell
  */
-public class MaterialScrollBarUI extends BasicScrollBarUI {
+public class MaterialScrollBarUI extends BasicScrollBarUI implements MaterialThemeRefreshable {
 
 	public static ComponentUI createUI (JComponent c) {
 		return new MaterialScrollBarUI ();
 	}
 
+	@Override
+	public void update(Graphics g, JComponent c) {
+		long start = MaterialPaintStatistics.beginPaint();
+		try {
+			super.update(g, c);
+		} finally {
+			MaterialPaintStatistics.endPaint(this, start);
+		}
+	}
+
 	@Override
 	public void paint (Graphics g, JComponent c) {
 		super.paint (MaterialDrawingUtils.getAliasedGraphics (g), c);
@@ -115,22 +128,59 @@ public class MaterialScrollBarUI extends BasicScrollBarUI {
 	protected JButton installButton(int orientation){
 		JButton button = new JButton();
 		MaterialManagerListener.removeAllMaterialMouseListener(button);
-		button.setUI(new MaterialButtonUI());
-		button.setOpaque (true);
-		button.setFocusable(false); //This must be false because the button focus have an effect that this button mustn't be have
-		button.setBackground (UIManager.getColor ("ScrollBar.arrowButtonBackground"));
-		if(!UIManager.getBoolean("ScrollBar.enableArrow")){
-			createInvisibleButton(button);
-			return button;
+		button.setUI(new ArrowButtonScrollBarUI(orientation));
+		return button;
+	}
+
+	/**
+	 * The style of the arrow buttons is inside the UI, so the button can read it again when the theme changes.
+	 */
+	protected class ArrowButtonScrollBarUI extends MaterialButtonUI {
+
+		protected int orientation;
+		protected MouseListener staticMouseHover;
+
+		public ArrowButtonScrollBarUI(int orientation) {
+			this.orientation = orientation;
 		}
-		setIconArrowButton(button, orientation);
-		if(UIManager.getBoolean("ScrollBar[MouseHover].enable")){
-			button.addMouseListener(MaterialUIMovement.getStaticMovement(button,
-					UIManager.getColor("ScrollBar[MouseHover].color"),
-					UIManager.getColor("ScrollBar[OnClick].color")));
+
+		@Override
+		public void installUI(JComponent c) {
+			super.installUI(c);
+			installArrowStyle((JButton) c);
+		}
+
+		@Override
+		public void refreshTheme(JComponent c) {
+			super.refreshTheme(c);
+			installArrowStyle((JButton) c);
+		}
+
+		protected void installArrowStyle(JButton button) {
+			button.setOpaque (true);
+			button.setFocusable(false); //This must be false because the button focus have an effect that this button mustn't be have
+			button.setBackground (UIManager.getColor ("ScrollBar.arrowButtonBackground"));
+			if (staticMouseHover != null) {
+				button.removeMouseListener(staticMouseHover);
+				staticMouseHover = null;
+			}
+			if(!UIManager.getBoolean("ScrollBar.enableArrow")){
+				createInvisibleButton(button);
+				return;
+			}
+			setIconArrowButton(button, orientation);
+			if(UIManager.getBoolean("ScrollBar[MouseHover].enable")){
+				staticMouseHover = MaterialUIMovement.getStaticMovement(button,
+						UIManager.getColor("ScrollBar[MouseHover].color"),
+						UIManager.getColor("ScrollBar[OnClick].color"));
+				button.addMouseListener(staticMouseHover);
+			}
+			button.setBorder (UIManager.getBorder("ScrollBar.arrowButtonBorder"));
 		}
-		button.setBorder (UIManager.getBorder("ScrollBar.arrowButtonBorder"));
-		return button;
 	}
 
+	@Override
+	public void refreshTheme(JComponent c) {
+		installDefaults();
+	}
 }
\ No newline at end of file
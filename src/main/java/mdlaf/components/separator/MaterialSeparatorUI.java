@@ -24,9 +24,12 @@
  */
 package mdlaf.components.separator;
 
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.JComponent;
+import javax.swing.JSeparator;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicSeparatorUI;
 import java.awt.Graphics;
@@ -34,14 +37,29 @@ import java.awt.Graphics;
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialSeparatorUI extends BasicSeparatorUI {
+public class MaterialSeparatorUI extends BasicSeparatorUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialSeparatorUI();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         super.paint(g, c);
     }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults((JSeparator) c);
+    }
 }
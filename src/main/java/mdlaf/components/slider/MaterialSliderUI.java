@@ -24,7 +24,9 @@
  */
 package mdlaf.components.slider;
 
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.JComponent;
 import javax.swing.JSlider;
@@ -37,7 +39,7 @@ import java.awt.*;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialSliderUI extends BasicSliderUI {
+public class MaterialSliderUI extends BasicSliderUI implements MaterialThemeRefreshable {
 
     private static final int NORMAL_THUMB_RADIUS = 7;
     private static final int DRAG_THUMB_RADIUS = 14;
@@ -132,6 +134,16 @@ public class MaterialSliderUI extends BasicSliderUI {
     @Override
     public void paintFocus(Graphics g) { }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         super.paint(MaterialDrawingUtils.getAliasedGraphics(g), c);
@@ -153,4 +165,9 @@ public class MaterialSliderUI extends BasicSliderUI {
             this.y2 = y2;
         }
     }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults((JSlider) c);
+    }
 }
@@ -26,7 +26,9 @@ package mdlaf.components.spinner;
 
 import mdlaf.animation.MaterialUIMovement;
 import mdlaf.components.button.MaterialButtonUI;
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialColors;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
@@ -37,7 +39,7 @@ import java.awt.*;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialSpinnerUI extends BasicSpinnerUI {
+public class MaterialSpinnerUI extends BasicSpinnerUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialSpinnerUI();
@@ -55,12 +57,38 @@ public class MaterialSpinnerUI extends BasicSpinnerUI {
         this.spinnerDisableBackground = UIManager.getColor("Spinner.disabledBackground");
     }
 
+    /**
+     * The BasicSpinnerUI.installDefaults creates a new layout, so only the values of the theme are read again,
+     * the arrow buttons are refreshed after the spinner because they are its children.
+     */
+    @Override
+    public void refreshTheme(JComponent c) {
+        this.spinnerBackground = UIManager.getColor("Spinner.background");
+        this.spinnerDisableBackground = UIManager.getColor("Spinner.disabledBackground");
+        if (upArrowButton != null) {
+            upArrowButton.setIcon(UIManager.getIcon("Spinner.nextButtonIcon"));
+        }
+        if (downArrowButton != null) {
+            downArrowButton.setIcon(UIManager.getIcon("Spinner.previousButtonIcon"));
+        }
+    }
+
     @Override
     public void uninstallUI(JComponent c) {
         c.setCursor(Cursor.getDefaultCursor());
         super.uninstallUI(c);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         super.paint(g, c);
@@ -110,6 +138,17 @@ public class MaterialSpinnerUI extends BasicSpinnerUI {
             public void installUI(JComponent c) {
                 super.mouseHoverEnabled = null;
                 super.installUI(c);
+                installSpinnerStyle();
+            }
+
+            @Override
+            public void refreshTheme(JComponent c) {
+                super.mouseHoverEnabled = false;
+                super.refreshTheme(c);
+                installSpinnerStyle();
+            }
+
+            protected void installSpinnerStyle() {
                 super.mouseHoverEnabled = UIManager.getBoolean("Spinner.mouseHoverEnabled");
                 super.background = UIManager.getColor("Spinner.arrowButtonBackground");
                 super.disabledBackground = spinnerDisableBackground;
@@ -24,6 +24,9 @@
  */
 package mdlaf.components.splitpane;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicSplitPaneDivider;
@@ -34,7 +37,7 @@ import java.awt.*;
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialSplitPaneUI extends MetalSplitPaneUI {
+public class MaterialSplitPaneUI extends MetalSplitPaneUI implements MaterialThemeRefreshable {
 
 
     @SuppressWarnings({"MethodOverridesStaticMethodOfSuperclass", "UnusedDeclaration"})
@@ -56,6 +59,16 @@ public class MaterialSplitPaneUI extends MetalSplitPaneUI {
         super.uninstallUI(c);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent jc) {
         super.paint(g, jc);
@@ -84,4 +97,12 @@ public class MaterialSplitPaneUI extends MetalSplitPaneUI {
         }
     }
 
+    /**
+     * The BasicSplitPaneUI.installDefaults adds the divider and creates a new layout, so only the divider color is
+     * read again; the dragging color of the non continuous layout is private inside the BasicSplitPaneUI.
+     */
+    @Override
+    public void refreshTheme(JComponent c) {
+        this.divider.setBackground(UIManager.getColor("SplitPaneDivider.background"));
+    }
 }
@@ -0,0 +1,236 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.components.tabbedpane;
+
+import java.awt.*;
+
+/**
+ * The tab rectangles of a JTabbedPane sorted by run and by position inside the run,
+ * so the tab under the mouse, and the tabs inside the clip of a paint, are found with
+ * a binary search instead of looking at every tab.
+ * <p>
+ * The index keeps a copy of the rectangles, it must be built again after each layout of the tabs.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public final class MaterialTabHitIndex {
+
+    private final boolean horizontal;
+    private final int[] runMinorStart;
+    private final int[] runMinorEnd;
+    private final int[][] runTabs;
+    private final int[][] runMajorStart;
+    private final int[][] runMajorEnd;
+    private final int[][] runMinorTabStart;
+    private final int[][] runMinorTabEnd;
+
+    /**
+     * @param rects the rectangles of the tabs
+     * @param tabCount the number of tabs
+     * @param tabRuns the first tab of each run, as in BasicTabbedPaneUI
+     * @param runCount the number of runs
+     * @param horizontal true when the tabs are placed on TOP or BOTTOM
+     */
+    public MaterialTabHitIndex(Rectangle[] rects, int tabCount, int[] tabRuns, int runCount, boolean horizontal) {
+        this.horizontal = horizontal;
+        tabCount = Math.min(tabCount, rects.length);
+        if (tabCount == 0) {
+            runCount = 0;
+        } else if (runCount <= 0 || tabRuns == null) {
+            tabRuns = new int[]{0};
+            runCount = 1;
+        }
+        runMinorStart = new int[runCount];
+        runMinorEnd = new int[runCount];
+        runTabs = new int[runCount][];
+        runMajorStart = new int[runCount][];
+        runMajorEnd = new int[runCount][];
+        runMinorTabStart = new int[runCount][];
+        runMinorTabEnd = new int[runCount][];
+        for (int run = 0; run < runCount; run++) {
+            int first = tabRuns[run];
+            int next = tabRuns[run == runCount - 1 ? 0 : run + 1];
+            int last = next != 0 ? next - 1 : tabCount - 1;
+            indexRun(run, rects, first, Math.min(last, tabCount - 1));
+        }
+    }
+
+    private void indexRun(int run, Rectangle[] rects, int first, int last) {
+        int size = Math.max(0, last - first + 1);
+        int[] tabs = new int[size];
+        for (int i = 0; i < size; i++) {
+            tabs[i] = first + i;
+        }
+        // The tabs of a run are laid out in order, from the right with a right to left orientation.
+        if (size > 1 && majorStart(rects[tabs[0]]) > majorStart(rects[tabs[size - 1]])) {
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                int tmp = tabs[i];
+                tabs[i] = tabs[j];
+                tabs[j] = tmp;
+            }
+        }
+        if (!isSorted(rects, tabs)) {
+            sort(rects, tabs);
+        }
+
+        int[] majorStart = new int[size];
+        int[] majorEnd = new int[size];
+        int[] minorStart = new int[size];
+        int[] minorEnd = new int[size];
+        int runStart = Integer.MAX_VALUE;
+        int runEnd = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            Rectangle rect = rects[tabs[i]];
+            majorStart[i] = majorStart(rect);
+            majorEnd[i] = majorStart[i] + (horizontal ? rect.width : rect.height);
+            minorStart[i] = horizontal ? rect.y : rect.x;
+            minorEnd[i] = minorStart[i] + (horizontal ? rect.height : rect.width);
+            runStart = Math.min(runStart, minorStart[i]);
+            runEnd = Math.max(runEnd, minorEnd[i]);
+        }
+        runTabs[run] = tabs;
+        runMajorStart[run] = majorStart;
+        runMajorEnd[run] = majorEnd;
+        runMinorTabStart[run] = minorStart;
+        runMinorTabEnd[run] = minorEnd;
+        runMinorStart[run] = runStart;
+        runMinorEnd[run] = runEnd;
+    }
+
+    private int majorStart(Rectangle rect) {
+        return horizontal ? rect.x : rect.y;
+    }
+
+    private boolean isSorted(Rectangle[] rects, int[] tabs) {
+        for (int i = 1; i < tabs.length; i++) {
+            if (majorStart(rects[tabs[i - 1]]) > majorStart(rects[tabs[i]])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void sort(Rectangle[] rects, int[] tabs) {
+        // Insertion sort, the tabs are already almost in order when we get here.
+        for (int i = 1; i < tabs.length; i++) {
+            int tab = tabs[i];
+            int start = majorStart(rects[tab]);
+            int j = i - 1;
+            while (j >= 0 && majorStart(rects[tabs[j]]) > start) {
+                tabs[j + 1] = tabs[j];
+                j--;
+            }
+            tabs[j + 1] = tab;
+        }
+    }
+
+    /**
+     * Returns the tab that contains the point, in the coordinates of the rectangles,
+     * or -1 if the point is not over a tab. When two tabs contain the point, because the selected
+     * tab is padded, the tab with the lower index is returned as BasicTabbedPaneUI does.
+     */
+    public int tabAt(int x, int y) {
+        int major = horizontal ? x : y;
+        int minor = horizontal ? y : x;
+        int result = -1;
+        // There are only a few runs, so they are checked one by one.
+        for (int run = 0; run < runTabs.length; run++) {
+            if (minor < runMinorStart[run] || minor >= runMinorEnd[run]) {
+                continue;
+            }
+            int position = lastStartingBefore(runMajorStart[run], major);
+            for (int i = Math.max(0, position - 1); i <= position + 1 && i < runTabs[run].length; i++) {
+                if (major >= runMajorStart[run][i] && major < runMajorEnd[run][i]
+                        && minor >= runMinorTabStart[run][i] && minor < runMinorTabEnd[run][i]) {
+                    int tab = runTabs[run][i];
+                    if (result < 0 || tab < result) {
+                        result = tab;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the tabs of the run that intersect the area, in the order of their position.
+     */
+    public int[] getTabsInRun(int run, Rectangle area) {
+        if (area.isEmpty()) {
+            return new int[0];
+        }
+        int areaMajorStart = horizontal ? area.x : area.y;
+        int areaMajorEnd = areaMajorStart + (horizontal ? area.width : area.height);
+        int areaMinorStart = horizontal ? area.y : area.x;
+        int areaMinorEnd = areaMinorStart + (horizontal ? area.height : area.width);
+        if (areaMinorEnd <= runMinorStart[run] || areaMinorStart >= runMinorEnd[run]) {
+            return new int[0];
+        }
+        int[] starts = runMajorStart[run];
+        // The tab before the first one found can overlap the area when it is the padded selected tab.
+        int first = Math.max(0, lastStartingBefore(starts, areaMajorStart) - 1);
+        int last = lastStartingBefore(starts, areaMajorEnd - 1);
+        if (last < first) {
+            return new int[0];
+        }
+        int[] tabs = new int[last - first + 1];
+        int count = 0;
+        for (int i = first; i <= last; i++) {
+            // The selected tab is higher than the others of the run
+            if (runMajorEnd[run][i] > areaMajorStart
+                    && runMinorTabStart[run][i] < areaMinorEnd && runMinorTabEnd[run][i] > areaMinorStart) {
+                tabs[count++] = runTabs[run][i];
+            }
+        }
+        if (count == tabs.length) {
+            return tabs;
+        }
+        int[] result = new int[count];
+        System.arraycopy(tabs, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Returns the position of the last start lower or equal to the value, -1 if there is none.
+     */
+    private static int lastStartingBefore(int[] starts, int value) {
+        int low = 0;
+        int high = starts.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= value) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    public int getRunCount() {
+        return runTabs.length;
+    }
+}
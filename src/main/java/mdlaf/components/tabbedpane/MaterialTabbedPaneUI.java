@@ -26,7 +26,9 @@ package mdlaf.components.tabbedpane;
 
 import mdlaf.animation.MaterialMouseHover;
 import mdlaf.components.button.MaterialButtonUI;
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ColorUIResource;
@@ -35,19 +37,32 @@ import javax.swing.plaf.UIResource;
 import javax.swing.plaf.basic.BasicArrowButton;
 import javax.swing.plaf.basic.BasicTabbedPaneUI;
 import java.awt.*;
+import java.awt.font.FontRenderContext;
 import java.awt.event.MouseEvent;
+import java.awt.event.MouseMotionListener;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
+public class MaterialTabbedPaneUI extends BasicTabbedPaneUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI( JComponent c) {
         return new MaterialTabbedPaneUI();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     protected Color selectedForeground;
     protected Color disabledForeground;
     protected Color areaContentBackground;
@@ -65,15 +80,48 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
     protected Map<Integer, Boolean> mouseHoverInitialized;
     protected Boolean mouseHoverEnabled;
     protected MaterialMouseHoverOnTab mouseHoverTab;
+    protected MaterialTabHitIndex tabHitIndex;
+    protected JViewport tabViewport;
+    private final Map<String, Integer> titleWidths;
+    private Font titleWidthsFont;
+    private FontRenderContext titleWidthsContext;
 
     public MaterialTabbedPaneUI() {
         mouseHoverInitialized = new HashMap<>();
+        titleWidths = new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return tabPane != null && size() > Math.max(256, tabPane.getTabCount() * 2);
+            }
+        };
     }
 
     @Override
     public void installUI(JComponent c) {
         super.installUI(c);
+        installStyle();
+
+        // The BasicTabbedPaneUI handler looks at every tab on each mouse motion to update the rollover tab,
+        // the MaterialMouseHoverOnTab does the same work with the tab index.
+        if (mouseListener instanceof MouseMotionListener) {
+            tabPane.removeMouseMotionListener((MouseMotionListener) mouseListener);
+        }
+        mouseHoverTab = new MaterialMouseHoverOnTab();
+        tabPane.addMouseListener(mouseHoverTab);
+        tabPane.addMouseMotionListener(mouseHoverTab);
+    }
+
+    /**
+     * The size of the tabs depends from the theme, so the tabbed pane is laid out again.
+     */
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults();
+        installStyle();
+        tabPane.revalidate();
+    }
 
+    protected void installStyle() {
         tabPane.setOpaque(false);
         this.foreground = new ColorUIResource(UIManager.getColor("TabbedPane.foreground"));
         this.selectedForeground = new ColorUIResource(UIManager.getColor("TabbedPane.selectionForeground"));
@@ -104,9 +152,13 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
     @Override
     protected void paintText(Graphics g, int tabPlacement, Font font, FontMetrics metrics, int tabIndex, String title, Rectangle textRect, boolean isSelected) {
         g = MaterialDrawingUtils.getAliasedGraphics(g);
+        int mnemIndex = this.tabPane.getDisplayedMnemonicIndexAt(tabIndex);
         if(!tabPane.isEnabledAt(tabIndex)){
-            int mnemIndex = this.tabPane.getDisplayedMnemonicIndexAt(tabIndex);
             MaterialDrawingUtils.drawString(tabPane, g, title, textRect, mnemIndex, 0, disabledForeground);
+        }else if (tabPane.isEnabled() && getTextViewForTab(tabIndex) == null) {
+            // The color is chosen here and not with tabPane.setForegroundAt inside the paint,
+            // because the setter schedules an other repaint of the tab.
+            MaterialDrawingUtils.drawString(tabPane, g, title, textRect, mnemIndex, 0, getTabForeground(tabIndex, isSelected));
         }else{
             super.paintText(g, tabPlacement, font, metrics, tabIndex, title, textRect, isSelected);
         }
@@ -119,7 +171,6 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
         if (isSelected) {
             g2D.setColor(selectedAreaContentBackground);
             g2D.setPaint(selectedAreaContentBackground);
-            tabPane.setForegroundAt(tabIndex, selectedForeground);
         } else {
             if (tabPane.isEnabled() && tabPane.isEnabledAt(tabIndex)) {
                 g2D.setColor(this.tabPane.getBackground());
@@ -128,15 +179,88 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
                 g2D.setColor(disableAreaContentBackground);
                 g2D.setPaint(disableAreaContentBackground);
             }
-            if(tabPane.isEnabledAt(tabIndex)){
-                tabPane.setForegroundAt(tabIndex, foreground);
-            }else{
-                tabPane.setForegroundAt(tabIndex, disabledForeground);
-            }
         }
         //this.installMouseHover(tabIndex);
     }
 
+    /**
+     * The foreground set by the user with tabPane.setForegroundAt is used only on the tab not selected,
+     * the selected tab use always the selection foreground.
+     */
+    protected Color getTabForeground(int tabIndex, boolean isSelected) {
+        if (isSelected) {
+            return selectedForeground;
+        }
+        Color tabForeground = tabPane.getForegroundAt(tabIndex);
+        if (tabForeground == null || tabForeground instanceof UIResource) {
+            return foreground;
+        }
+        return tabForeground;
+    }
+
+    /**
+     * The layout of BasicTabbedPaneUI measures the title of every tab each time the tabs are laid out,
+     * here the width of a plain title is measured only one time for each font.
+     * The tabs with a tab component or an html title are measured by BasicTabbedPaneUI.
+     */
+    @Override
+    protected int calculateTabWidth(int tabPlacement, int tabIndex, FontMetrics metrics) {
+        if (tabPane.getTabComponentAt(tabIndex) != null || getTextViewForTab(tabIndex) != null) {
+            return super.calculateTabWidth(tabPlacement, tabIndex, metrics);
+        }
+        Insets tabInsets = getTabInsets(tabPlacement, tabIndex);
+        int width = tabInsets.left + tabInsets.right + 3;
+        Icon icon = getIconForTab(tabIndex);
+        if (icon != null) {
+            width += icon.getIconWidth() + textIconGap;
+        }
+        return width + getTitleWidth(metrics, tabPane.getTitleAt(tabIndex));
+    }
+
+    protected int getTitleWidth(FontMetrics metrics, String title) {
+        if (title == null || title.isEmpty()) {
+            return 0;
+        }
+        if (!metrics.getFont().equals(titleWidthsFont) || !metrics.getFontRenderContext().equals(titleWidthsContext)) {
+            titleWidths.clear();
+            titleWidthsFont = metrics.getFont();
+            titleWidthsContext = metrics.getFontRenderContext();
+        }
+        Integer width = titleWidths.get(title);
+        if (width == null) {
+            width = metrics.stringWidth(title);
+            titleWidths.put(title, width);
+        }
+        return width;
+    }
+
+    /**
+     * BasicTabbedPaneUI checks every tab against the clip, here only the tabs inside the clip
+     * are taken from the tab index. As in BasicTabbedPaneUI the runs are painted from back to front
+     * and the selected tab is painted last.
+     */
+    @Override
+    protected void paintTabArea(Graphics g, int tabPlacement, int selectedIndex) {
+        MaterialTabHitIndex index = getTabHitIndex();
+        Rectangle clip = g.getClipBounds();
+        if (index == null || clip == null || index.getRunCount() != runCount) {
+            super.paintTabArea(g, tabPlacement, selectedIndex);
+            return;
+        }
+        Rectangle iconRect = new Rectangle();
+        Rectangle textRect = new Rectangle();
+        for (int run = runCount - 1; run >= 0; run--) {
+            for (int tab : index.getTabsInRun(run, clip)) {
+                if (tab != selectedIndex && rects[tab].intersects(clip)) {
+                    paintTab(g, tabPlacement, rects, tab, iconRect, textRect);
+                }
+            }
+        }
+        if (selectedIndex >= 0 && selectedIndex < rects.length && rects[selectedIndex].intersects(clip)) {
+            paintTab(g, tabPlacement, rects, selectedIndex, iconRect, textRect);
+        }
+    }
+
     @Override
     protected int calculateTabHeight(int tabPlacement, int tabIndex, int fontHeight) {
        /* if (tabPlacement == LEFT || tabPlacement == RIGHT) {
@@ -151,10 +275,79 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
     protected void paintTab(Graphics g, int tabPlacement, Rectangle[] rects, int tabIndex, Rectangle iconRect, Rectangle textRect) {
         // for some reason tabs aren't painted properly by paint()
         super.paintTab(g, tabPlacement, rects, tabIndex, iconRect, textRect);
-        if (mouseHoverEnabled != null && mouseHoverEnabled && mouseHoverTab == null) {
-            mouseHoverTab = new MaterialMouseHoverOnTab(rects);
-            tabPane.addMouseMotionListener(mouseHoverTab);
+    }
+
+    /**
+     * The layouts of BasicTabbedPaneUI ask the font metrics before calculating the tab rects, also when
+     * the layout is forced on a tabbed pane without a peer, so this is where the tab index is invalidated.
+     * It is built again when it is used.
+     */
+    @Override
+    protected FontMetrics getFontMetrics() {
+        tabHitIndex = null;
+        return super.getFontMetrics();
+    }
+
+    /**
+     * Returns the tab at the point, in the coordinates of the JTabbedPane, without looking at every tab
+     * like tabForCoordinate does. The layout is not validated, so the result is -1 while the tabs
+     * are waiting for a layout.
+     */
+    protected int getTabAtPoint(int x, int y) {
+        MaterialTabHitIndex index = getTabHitIndex();
+        if (index == null) {
+            return -1;
+        }
+        if (tabViewport != null) {
+            // With the SCROLL_TAB_LAYOUT the rects are in the coordinates of the panel inside the viewport.
+            Component view = tabViewport.getView();
+            if (view == null) {
+                return -1;
+            }
+            Point point = SwingUtilities.convertPoint(tabPane, x, y, view);
+            if (!tabViewport.getViewRect().contains(point)) {
+                return -1;
+            }
+            return index.tabAt(point.x, point.y);
+        }
+        return index.tabAt(x, y);
+    }
+
+    /**
+     * Returns the index of the tab rects, built again after each layout, or null when the rects
+     * are waiting for a layout.
+     */
+    protected MaterialTabHitIndex getTabHitIndex() {
+        if (rects == null || rects.length != tabPane.getTabCount()) {
+            return null;
+        }
+        if (tabHitIndex == null) {
+            tabHitIndex = new MaterialTabHitIndex(rects, tabPane.getTabCount(), tabRuns, runCount,
+                    tabPane.getTabPlacement() == TOP || tabPane.getTabPlacement() == BOTTOM);
+            tabViewport = findTabViewport();
+        }
+        return tabHitIndex;
+    }
+
+    private JViewport findTabViewport() {
+        if (tabPane.getTabLayoutPolicy() != JTabbedPane.SCROLL_TAB_LAYOUT) {
+            return null;
         }
+        for (Component component : tabPane.getComponents()) {
+            if (component instanceof JViewport && component instanceof UIResource) {
+                return (JViewport) component;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Called when the mouse moves from a tab to an other one, the indexes are -1 when
+     * the mouse is not over a tab. The default implementation doesn't paint the hover tab,
+     * a subclass that paints it can repaint only the two tabs here.
+     */
+    protected void hoverTabChanged(int oldIndex, int newIndex) {
+        // do nothing
     }
 
     @Override
@@ -376,7 +569,12 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
     @Override
     protected void uninstallListeners() {
         super.uninstallListeners();
+        super.tabPane.removeMouseListener(mouseHoverTab);
         super.tabPane.removeMouseMotionListener(mouseHoverTab);
+        mouseHoverTab = null;
+        tabHitIndex = null;
+        tabViewport = null;
+        titleWidths.clear();
     }
 
     @Override
@@ -418,6 +616,8 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
      * This class implement the mouse hover effect on TabbedPane, is a mouseMotion listener
      * and is run on all JTabbedPane component, when the mouse is hover aver the tab this event change the
      * cursor.
+     * It also keeps the rollover tab of BasicTabbedPaneUI, the tab under the mouse is found with
+     * the tab index and the cursor is changed only when the mouse enters or leaves the tabs.
      *
      * P.S: This event is run every time and it can be hide exception client logic, before to open the issue about the library
      * make more test with the mouse hover on TabbedPane disabled.
@@ -426,10 +626,22 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
      */
     protected class MaterialMouseHoverOnTab implements MaterialMouseHover {
 
-        private Rectangle[] rectangles;
+        private int hoverTab = -1;
+        private Cursor cursorOutsideTabs;
 
+        public MaterialMouseHoverOnTab() {
+        }
+
+        /**
+         * @deprecated the rectangles are read from the UI each time the tabs are laid out.
+         */
+        @Deprecated
         public MaterialMouseHoverOnTab(Rectangle[] rectangles) {
-            this.rectangles = rectangles;
+            this();
+        }
+
+        public int getHoverTab() {
+            return hoverTab;
         }
 
         @Override
@@ -438,21 +650,7 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
 
         @Override
         public void mouseMoved(MouseEvent e) {
-            JComponent mouseGenerate = (JComponent) e.getSource();
-            if (!mouseGenerate.isEnabled()) {
-                return;
-            }
-            if (mouseGenerate.getCursor().equals(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR))) {
-                return;
-            }
-            Point point = e.getPoint();
-            for (Rectangle r : rectangles) {
-                if (r.contains(point)) {
-                    mouseGenerate.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
-                    return;
-                }
-            }
-            mouseGenerate.setCursor(Cursor.getPredefinedCursor(Cursor.DEFAULT_CURSOR));
+            updateHoverTab(getTabAtPoint(e.getX(), e.getY()));
         }
 
         @Override
@@ -477,13 +675,45 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
 
         @Override
         public void mouseExited(MouseEvent e) {
-            //do nothing
+            updateHoverTab(-1);
         }
 
         @Override
         public boolean isRunning() {
             return false;
         }
+
+        private void updateHoverTab(int tab) {
+            if (getRolloverTab() != tab) {
+                MaterialTabbedPaneUI.super.setRolloverTab(tab);
+            }
+            if (tab == hoverTab) {
+                return;
+            }
+            int oldTab = hoverTab;
+            hoverTab = tab;
+            if (mouseHoverEnabled != null && mouseHoverEnabled && (oldTab < 0) != (tab < 0)) {
+                updateCursor(tab >= 0);
+            }
+            hoverTabChanged(oldTab, tab);
+        }
+
+        private void updateCursor(boolean overTab) {
+            if (!tabPane.isEnabled()) {
+                return;
+            }
+            Cursor cursor = tabPane.getCursor();
+            if (overTab) {
+                if (cursor.getType() == Cursor.WAIT_CURSOR) {
+                    return;
+                }
+                cursorOutsideTabs = tabPane.isCursorSet() ? cursor : null;
+                tabPane.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+            } else if (cursor.getType() == Cursor.HAND_CURSOR) {
+                tabPane.setCursor(cursorOutsideTabs);
+                cursorOutsideTabs = null;
+            }
+        }
     }
 
     protected class ArrowButtonTabbedPane extends JButton implements UIResource {
@@ -497,6 +727,10 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
         public ArrowButtonTabbedPane(int direction) {
             setUI(new ArrowButtonTabbedPaneUI(direction));
             this.direction = direction;
+            installIcons();
+        }
+
+        protected void installIcons() {
             switch (direction){
                 //TODO TOP? Button?
                 case BasicArrowButton.WEST:
@@ -545,6 +779,17 @@ public class MaterialTabbedPaneUI extends BasicTabbedPaneUI {
             public void installUI(JComponent c) {
                 super.mouseHoverEnabled = false;
                 super.installUI(c);
+                installArrowStyle(c);
+            }
+
+            @Override
+            public void refreshTheme(JComponent c) {
+                super.refreshTheme(c);
+                installArrowStyle(c);
+                installIcons();
+            }
+
+            protected void installArrowStyle(JComponent c) {
                 super.background = UIManager.getColor("TabbedPane.background");
                 super.disabledBackground = super.background;
                 super.borderEnabled = false;
@@ -35,6 +35,28 @@ import java.awt.*;
  */
 public class MaterialTableCellRenderer extends DefaultTableCellRenderer {
 
+    protected TableCellRenderer booleanRenderer;
+
+    public MaterialTableCellRenderer() {
+        this(null);
+    }
+
+    /**
+     * @param booleanRenderer is the renderer used for the Boolean values, if it is null the renderer is created
+     *                        the first time that a Boolean value is rendered.
+     */
+    public MaterialTableCellRenderer(TableCellRenderer booleanRenderer) {
+        this.booleanRenderer = booleanRenderer;
+    }
+
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        if (booleanRenderer instanceof JComponent) {
+            SwingUtilities.updateComponentTreeUI((JComponent) booleanRenderer);
+        }
+    }
+
     @Override
     public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
         super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
@@ -43,8 +65,10 @@ public class MaterialTableCellRenderer extends DefaultTableCellRenderer {
         this.setVerticalAlignment(SwingConstants.CENTER);
 
         if (value instanceof Boolean) {
-            TableCellRenderer renderer = new MaterialTableCellRendererCheckBox();
-            return renderer.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+            if (booleanRenderer == null) {
+                booleanRenderer = new MaterialTableCellRendererCheckBox();
+            }
+            return booleanRenderer.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
         }
 
         //OLD version code restored for JMars offical version
@@ -67,15 +91,6 @@ public class MaterialTableCellRenderer extends DefaultTableCellRenderer {
 			}
 		}*/
 
-        //new version of the code release in pre-release6.1
-        //TODO should be removed? post on StackOverflow
-        Color alternateRowColor = UIManager.getColor("Table.alternateRowColor");
-        Color normalColor = UIManager.getColor("Table.background");
-        if (row % 2 == 1) {
-            //setDefaultCellRenderWithAllType(table, value, isSelected, hasFocus, row, column, alternateRowColor);
-        } else {
-            //setDefaultCellRenderWithAllType(table, value, isSelected, hasFocus, row, column, normalColor);
-        }
         return this;
     }
 
@@ -33,10 +33,15 @@ import java.awt.*;
  */
 class MaterialTableCellRendererCheckBox extends JCheckBox implements TableCellRenderer {
 
-    protected Icon unchecked = UIManager.getIcon("Table[CheckBox].unchecked");
-    protected Icon checked = UIManager.getIcon("Table[CheckBox].checked");
-    protected Icon uncheckedSelectionRow = UIManager.getIcon("Table[CheckBox].selectionUnchecked");
-    protected Icon checkedSelectionRow = UIManager.getIcon("Table[CheckBox].selectionChecked");
+    /*
+     * The fields are not initialized in the declaration because the updateUI method
+     * is called by the JCheckBox constructor, before the field initializers.
+     */
+    protected Icon unchecked;
+    protected Icon checked;
+    protected Icon uncheckedSelectionRow;
+    protected Icon checkedSelectionRow;
+    protected Color alternateRowColor;
 
     public MaterialTableCellRendererCheckBox() {
         setLayout(new GridBagLayout());
@@ -46,12 +51,25 @@ class MaterialTableCellRendererCheckBox extends JCheckBox implements TableCellRe
         setSelectedIcon(checked);
     }
 
+    /**
+     * The renderer is shared by all cells of the table, so the values are resolved here, when the
+     * renderer is created and when the JTable calls updateUI on its renderers after a theme change.
+     */
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        unchecked = UIManager.getIcon("Table[CheckBox].unchecked");
+        checked = UIManager.getIcon("Table[CheckBox].checked");
+        uncheckedSelectionRow = UIManager.getIcon("Table[CheckBox].selectionUnchecked");
+        checkedSelectionRow = UIManager.getIcon("Table[CheckBox].selectionChecked");
+        alternateRowColor = UIManager.getColor("Table.alternateRowColor");
+    }
+
     @Override
     public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
         if (value instanceof Boolean) {
             setSelected((Boolean) value);
         }
-        Color alternateRowColor = UIManager.getColor("Table.alternateRowColor");
         if(alternateRowColor != null){
             if(!isSelected){
                 this.setIcon(unchecked);
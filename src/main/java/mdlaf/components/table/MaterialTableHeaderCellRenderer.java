@@ -28,8 +28,11 @@ import javax.swing.JComponent;
 import javax.swing.JTable;
 import javax.swing.SwingConstants;
 import javax.swing.UIManager;
+import javax.swing.border.Border;
 import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.Color;
 import java.awt.Component;
+import java.awt.Font;
 
 /**
  * @author https://github.com/vincenzopalazzo
@@ -37,13 +40,28 @@ import java.awt.Component;
  */
 public class MaterialTableHeaderCellRenderer extends DefaultTableCellRenderer {
 
+    // The super constructor calls updateUI before the field initializers, an initializer would reset the style
+    protected Border cellBorder;
+    protected Font cellFont;
+    protected Color cellBackground;
+    protected Color cellForeground;
+
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        cellBorder = UIManager.getBorder("TableHeader.cellBorder");
+        cellFont = UIManager.getFont("TableHeader.font");
+        cellBackground = UIManager.getColor("TableHeader.background");
+        cellForeground = UIManager.getColor("TableHeader.foreground");
+    }
+
     @Override
     public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
         super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
-        setBorder(UIManager.getBorder("TableHeader.cellBorder"));
-        setFont(UIManager.getFont("TableHeader.font"));
-        setBackground(UIManager.getColor("TableHeader.background"));
-        setForeground(UIManager.getColor("TableHeader.foreground"));
+        setBorder(cellBorder);
+        setFont(cellFont);
+        setBackground(cellBackground);
+        setForeground(cellForeground);
 
         this.setHorizontalAlignment(SwingConstants.CENTER);
         this.setVerticalAlignment(SwingConstants.CENTER);
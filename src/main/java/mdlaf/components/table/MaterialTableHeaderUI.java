@@ -24,7 +24,9 @@
  */
 package mdlaf.components.table;
 
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
@@ -36,22 +38,36 @@ import java.awt.Graphics;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialTableHeaderUI extends BasicTableHeaderUI {
+public class MaterialTableHeaderUI extends BasicTableHeaderUI implements MaterialThemeRefreshable {
 
 	public static ComponentUI createUI (JComponent c) {
 		return new MaterialTableHeaderUI ();
 	}
 
+	@Override
+	public void update(Graphics g, JComponent c) {
+		long start = MaterialPaintStatistics.beginPaint();
+		try {
+			super.update(g, c);
+		} finally {
+			MaterialPaintStatistics.endPaint(this, start);
+		}
+	}
+
 	@Override
 	public void installUI (JComponent c) {
 		super.installUI (c);
 
 		JTableHeader header = (JTableHeader) c;
 		header.setDefaultRenderer (new MaterialTableHeaderCellRenderer ());
+		installStyle(header);
+	}
+
+	protected void installStyle(JTableHeader header) {
 		header.setBackground(UIManager.getColor("TableHeader.background"));
 		header.setForeground(UIManager.getColor("TableHeader.foreground"));
 		header.setFont(UIManager.getFont("TableHeader.font"));
-		LookAndFeel.installBorder(c, "TableHeader.border");
+		LookAndFeel.installBorder(header, "TableHeader.border");
 	}
 
 	@Override
@@ -71,4 +87,12 @@ public class MaterialTableHeaderUI extends BasicTableHeaderUI {
 	public void paint (Graphics g, JComponent c) {
 		super.paint (MaterialDrawingUtils.getAliasedGraphics (g), c);
 	}
+
+	/**
+	 * The renderer of the header is refreshed by MaterialThemeRefresher, like JTableHeader.updateUI does.
+	 */
+	@Override
+	public void refreshTheme(JComponent c) {
+		installStyle((JTableHeader) c);
+	}
 }
@@ -24,6 +24,7 @@
  */
 package mdlaf.components.table;
 
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.*;
 
 import javax.swing.*;
@@ -36,7 +37,7 @@ import java.util.Date;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialTableUI extends BasicTableUI {
+public class MaterialTableUI extends BasicTableUI implements MaterialThemeRefreshable {
 
 
 	public static ComponentUI createUI (JComponent c) {
@@ -46,6 +47,24 @@ public class MaterialTableUI extends BasicTableUI {
 	@Override
 	public void installUI (JComponent c) {
 		super.installUI (c);
+		installStyle();
+
+		this.setDefaultCellRenderWithType(table);
+
+		table.setDefaultEditor(Object.class, new MaterialTableCellEditor());
+		table.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+	}
+
+	/**
+	 * The renderers and the editors are kept, they are refreshed by MaterialThemeRefresher like JTable.updateUI does.
+	 */
+	@Override
+	public void refreshTheme(JComponent c) {
+		installDefaults();
+		installStyle();
+	}
+
+	protected void installStyle() {
 		table.setBorder(UIManager.getBorder("Table.border"));
 		table.setOpaque (UIManager.getBoolean("Table.opaque"));
 		table.setSelectionForeground (UIManager.getColor ("Table.selectionForeground"));
@@ -65,11 +84,6 @@ public class MaterialTableUI extends BasicTableUI {
 		}else {
 			table.setRowHeight (table.getRowHeight () + 25);
 		}
-
-		this.setDefaultCellRenderWithType(table);
-
-		table.setDefaultEditor(Object.class, new MaterialTableCellEditor());
-		table.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
 	}
 
 	@Override
@@ -84,7 +98,12 @@ public class MaterialTableUI extends BasicTableUI {
 
 	@Override
 	public void update(Graphics g, JComponent c) {
-		super.update(g, c);
+		long start = MaterialPaintStatistics.beginPaint();
+		try {
+			super.update(g, c);
+		} finally {
+			MaterialPaintStatistics.endPaint(this, start);
+		}
 	}
 
 	 //This method setting a MaterialCellRender at the particular class
@@ -94,13 +113,17 @@ public class MaterialTableUI extends BasicTableUI {
 			throw new IllegalArgumentException("Table is null");
 		}
 
-		table.setDefaultRenderer(Object.class, new MaterialTableCellRenderer());
-		table.setDefaultRenderer(String.class, new MaterialTableCellRenderer());
-		table.setDefaultRenderer(Integer.class, new MaterialTableCellRenderer());
-		table.setDefaultRenderer(Double.class, new MaterialTableCellRenderer());
-		table.setDefaultRenderer(Float.class, new MaterialTableCellRenderer());
-		table.setDefaultRenderer(Boolean.class, new MaterialTableCellRenderer());
-		table.setDefaultRenderer(Date.class, new MaterialTableCellRenderer());
-		table.setDefaultRenderer(Long.class, new MaterialTableCellRenderer());
+		//The renderers are shared by all cells of the table, the Boolean renderer is a JCheckBox
+		//and it is created only one time for table
+		MaterialTableCellRendererCheckBox booleanRenderer = new MaterialTableCellRendererCheckBox();
+		MaterialTableCellRenderer renderer = new MaterialTableCellRenderer(booleanRenderer);
+		table.setDefaultRenderer(Object.class, renderer);
+		table.setDefaultRenderer(String.class, renderer);
+		table.setDefaultRenderer(Integer.class, renderer);
+		table.setDefaultRenderer(Double.class, renderer);
+		table.setDefaultRenderer(Float.class, renderer);
+		table.setDefaultRenderer(Boolean.class, booleanRenderer);
+		table.setDefaultRenderer(Date.class, renderer);
+		table.setDefaultRenderer(Long.class, renderer);
 	}
 }
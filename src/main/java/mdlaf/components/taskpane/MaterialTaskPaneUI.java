@@ -23,6 +23,8 @@
  */
 package mdlaf.components.taskpane;
 
+import mdlaf.utils.MaterialPaintStatistics;
+
 import org.jdesktop.swingx.JXTaskPane;
 import org.jdesktop.swingx.plaf.basic.BasicTaskPaneUI;
 
@@ -89,7 +91,12 @@ public class MaterialTaskPaneUI extends BasicTaskPaneUI {
 
     @Override
     public void update(Graphics g, JComponent c) {
-        super.update(g, c);
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
     }
 
     /**
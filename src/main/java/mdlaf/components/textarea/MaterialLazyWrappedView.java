@@ -0,0 +1,558 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.components.textarea;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.*;
+import java.awt.*;
+
+/**
+ * A wrapped view for the JTextArea with a very big document.
+ * <p>
+ * The WrappedPlainView breaks all the lines of the document each time the width changes.
+ * This view starts with an estimate of the rows of each line, calculated from the length
+ * of the line, and breaks a line only when it is painted or when the caret needs its position.
+ * The rows of the lines are kept in a Fenwick tree, so the line at a given y is found
+ * without walking the whole document.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public class MaterialLazyWrappedView extends View implements TabExpander {
+
+    private final boolean wordWrap;
+    private final Segment segment = new Segment();
+    private final RowView rowView;
+
+    private FontMetrics metrics;
+    private int lineHeight;
+    private int charWidth;
+    private int tabSize;
+    private int tabBase;
+    private int width;
+
+    /**
+     * The number of rows of each line, exact if the line is broken, estimated otherwise.
+     */
+    private int[] rows = new int[0];
+    /**
+     * The end of each row for the broken lines, as an offset from the start of the line,
+     * null if the line is estimated. The offsets are relative so an edit doesn't move the
+     * breaks of the following lines.
+     */
+    private int[][] breaks = new int[0][];
+    private int[] tree = new int[1];
+    private boolean preferenceChangePending;
+
+    public MaterialLazyWrappedView(Element elem, boolean wordWrap) {
+        super(elem);
+        this.wordWrap = wordWrap;
+        this.rowView = new RowView(elem);
+        this.rowView.setParent(this);
+    }
+
+    public boolean isWordWrap() {
+        return wordWrap;
+    }
+
+    @Override
+    public void setParent(View parent) {
+        super.setParent(parent);
+        if (parent != null) {
+            metrics = null;
+            updateMetrics();
+        }
+    }
+
+    @Override
+    public void setSize(float width, float height) {
+        updateMetrics();
+        if ((int) width != this.width) {
+            this.width = (int) width;
+            loadLines();
+            preferenceChanged(null, false, true);
+        }
+    }
+
+    @Override
+    public float getPreferredSpan(int axis) {
+        updateMetrics();
+        if (axis == View.X_AXIS) {
+            return width > 0 ? width : 100;
+        }
+        return getRowCount() * lineHeight;
+    }
+
+    @Override
+    public int getResizeWeight(int axis) {
+        return axis == View.X_AXIS ? 1 : 0;
+    }
+
+    @Override
+    public float nextTabStop(float x, int tabOffset) {
+        if (tabSize == 0) {
+            return x;
+        }
+        int tabs = ((int) x - tabBase) / tabSize;
+        return tabBase + ((tabs + 1) * tabSize);
+    }
+
+    @Override
+    public void paint(Graphics g, Shape a) {
+        updateMetrics();
+        Rectangle alloc = a.getBounds();
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = alloc;
+        }
+        tabBase = alloc.x;
+        JTextComponent host = (JTextComponent) getContainer();
+        Highlighter highlighter = host.getHighlighter();
+        g.setFont(host.getFont());
+
+        int totalRows = getRowCount();
+        int firstRow = Math.max(0, (clip.y - alloc.y) / lineHeight);
+        if (rows.length == 0 || firstRow >= totalRows) {
+            return;
+        }
+        int line = findLine(firstRow);
+        int clipEnd = clip.y + clip.height;
+        Rectangle rowAlloc = new Rectangle(alloc.x, 0, alloc.width, lineHeight);
+        while (line < rows.length) {
+            int[] lineBreaks = breakLine(line);
+            int y = alloc.y + rowsBefore(line) * lineHeight;
+            if (y >= clipEnd) {
+                break;
+            }
+            int start = getElement().getElement(line).getStartOffset();
+            int p0 = start;
+            for (int i = 0; i < lineBreaks.length; i++) {
+                int p1 = start + lineBreaks[i];
+                if (y + lineHeight > clip.y && y < clipEnd) {
+                    rowAlloc.y = y;
+                    if (highlighter instanceof LayeredHighlighter) {
+                        int highlightEnd = i == lineBreaks.length - 1 ? p1 - 1 : p1;
+                        rowView.setRange(p0, p1);
+                        ((LayeredHighlighter) highlighter).paintLayeredHighlights(g, p0, highlightEnd, rowAlloc, host, rowView);
+                    }
+                    drawRow(g, host, p0, p1, alloc.x, y + metrics.getAscent());
+                }
+                y += lineHeight;
+                p0 = p1;
+            }
+            line++;
+        }
+        if (getRowCount() != totalRows) {
+            firePreferenceChangedLater();
+        }
+    }
+
+    @Override
+    public Shape modelToView(int pos, Shape a, Position.Bias b) throws BadLocationException {
+        Document doc = getDocument();
+        if (pos < 0 || pos > doc.getLength()) {
+            throw new BadLocationException("Invalid location", pos);
+        }
+        updateMetrics();
+        Rectangle alloc = a.getBounds();
+        tabBase = alloc.x;
+        int line = getElement().getElementIndex(pos);
+        int[] lineBreaks = breakLine(line);
+        int start = getElement().getElement(line).getStartOffset();
+        int p0 = start;
+        int row = 0;
+        while (row < lineBreaks.length - 1 && pos >= start + lineBreaks[row]) {
+            p0 = start + lineBreaks[row];
+            row++;
+        }
+        doc.getText(p0, pos - p0, segment);
+        int x = alloc.x + Utilities.getTabbedTextWidth(segment, metrics, tabBase, this, p0);
+        int y = alloc.y + (rowsBefore(line) + row) * lineHeight;
+        return new Rectangle(x, y, 1, lineHeight);
+    }
+
+    @Override
+    public int viewToModel(float fx, float fy, Shape a, Position.Bias[] bias) {
+        bias[0] = Position.Bias.Forward;
+        updateMetrics();
+        Rectangle alloc = a.getBounds();
+        tabBase = alloc.x;
+        if (rows.length == 0 || fy < alloc.y) {
+            return getStartOffset();
+        }
+        int row = ((int) fy - alloc.y) / lineHeight;
+        if (row >= getRowCount()) {
+            return getDocument().getLength();
+        }
+        int line = findLine(row);
+        int[] lineBreaks = breakLine(line);
+        while (line < rows.length - 1 && row >= rowsBefore(line) + lineBreaks.length) {
+            line++;
+            lineBreaks = breakLine(line);
+        }
+        int index = Math.min(Math.max(0, row - rowsBefore(line)), lineBreaks.length - 1);
+        int start = getElement().getElement(line).getStartOffset();
+        int p0 = index == 0 ? start : start + lineBreaks[index - 1];
+        int p1 = start + lineBreaks[index];
+        try {
+            getDocument().getText(p0, p1 - p0, segment);
+        } catch (BadLocationException e) {
+            return p0;
+        }
+        int offset = p0 + Utilities.getTabbedTextOffset(segment, metrics, alloc.x, (int) fx, this, p0);
+        return Math.min(offset, Math.max(p0, p1 - 1));
+    }
+
+    @Override
+    public void insertUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        updateLines(e, a);
+    }
+
+    @Override
+    public void removeUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        updateLines(e, a);
+    }
+
+    @Override
+    public void changedUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        updateLines(e, a);
+    }
+
+    /**
+     * Updates only the lines touched by the edit, a line added or removed moves the arrays
+     * but the other lines keep their rows.
+     */
+    private void updateLines(DocumentEvent e, Shape a) {
+        updateMetrics();
+        Element root = getElement();
+        DocumentEvent.ElementChange change = e.getChange(root);
+        int oldRowCount = getRowCount();
+        int firstLine;
+        if (change != null) {
+            firstLine = change.getIndex();
+            int removed = change.getChildrenRemoved().length;
+            int added = change.getChildrenAdded().length;
+            int count = root.getElementCount();
+            int[] newRows = new int[count];
+            int[][] newBreaks = new int[count][];
+            System.arraycopy(rows, 0, newRows, 0, firstLine);
+            System.arraycopy(breaks, 0, newBreaks, 0, firstLine);
+            int tail = rows.length - firstLine - removed;
+            System.arraycopy(rows, firstLine + removed, newRows, firstLine + added, tail);
+            System.arraycopy(breaks, firstLine + removed, newBreaks, firstLine + added, tail);
+            rows = newRows;
+            breaks = newBreaks;
+            for (int i = firstLine; i < firstLine + added; i++) {
+                rows[i] = estimateRows(root.getElement(i));
+            }
+            buildTree();
+            for (int i = firstLine; i < firstLine + added; i++) {
+                breakLine(i);
+            }
+        } else {
+            firstLine = root.getElementIndex(e.getOffset());
+            if (firstLine < rows.length) {
+                breaks[firstLine] = null;
+                breakLine(firstLine);
+            }
+        }
+
+        if (getRowCount() != oldRowCount) {
+            preferenceChanged(null, false, true);
+        }
+        Component host = getContainer();
+        if (a != null && host != null) {
+            Rectangle alloc = a.getBounds();
+            int y = alloc.y + rowsBefore(Math.min(firstLine, rows.length)) * lineHeight;
+            if (change != null || getRowCount() != oldRowCount) {
+                host.repaint(alloc.x, y, alloc.width, Math.max(alloc.y + alloc.height - y, lineHeight));
+            } else {
+                host.repaint(alloc.x, y, alloc.width, rows[firstLine] * lineHeight);
+            }
+        }
+    }
+
+    private void updateMetrics() {
+        Component host = getContainer();
+        if (host == null) {
+            return;
+        }
+        Font font = host.getFont();
+        if (metrics == null || !font.equals(metrics.getFont())) {
+            metrics = host.getFontMetrics(font);
+            lineHeight = Math.max(1, metrics.getHeight());
+            charWidth = Math.max(1, metrics.charWidth('x'));
+            tabSize = getTabSize() * metrics.charWidth('m');
+            loadLines();
+        }
+    }
+
+    private int getTabSize() {
+        Integer size = (Integer) getDocument().getProperty(PlainDocument.tabSizeAttribute);
+        return size != null ? size : 8;
+    }
+
+    /**
+     * Drops all the broken lines and estimates the rows of each line from its length.
+     */
+    private void loadLines() {
+        Element root = getElement();
+        int count = root.getElementCount();
+        rows = new int[count];
+        breaks = new int[count][];
+        for (int i = 0; i < count; i++) {
+            rows[i] = estimateRows(root.getElement(i));
+        }
+        buildTree();
+    }
+
+    private int estimateRows(Element line) {
+        if (width <= 0) {
+            return 1;
+        }
+        int length = line.getEndOffset() - line.getStartOffset() - 1;
+        int rowsCount = (length * charWidth + width - 1) / width;
+        return Math.max(1, rowsCount);
+    }
+
+    /**
+     * Returns the end of each row of the line, relative to the start of the line,
+     * breaking the line if it is still estimated.
+     */
+    private int[] breakLine(int line) {
+        int[] lineBreaks = breaks[line];
+        if (lineBreaks != null) {
+            return lineBreaks;
+        }
+        Element elem = getElement().getElement(line);
+        int p0 = elem.getStartOffset();
+        int p1 = elem.getEndOffset();
+        if (width <= 0) {
+            lineBreaks = new int[]{p1 - p0};
+        } else {
+            int[] ends = new int[Math.max(1, rows[line])];
+            int count = 0;
+            int p = p0;
+            do {
+                p = calculateBreakPosition(p, p1);
+                if (count == ends.length) {
+                    int[] grown = new int[ends.length * 2];
+                    System.arraycopy(ends, 0, grown, 0, count);
+                    ends = grown;
+                }
+                ends[count++] = p - p0;
+            } while (p < p1);
+            lineBreaks = new int[count];
+            System.arraycopy(ends, 0, lineBreaks, 0, count);
+        }
+        breaks[line] = lineBreaks;
+        if (lineBreaks.length != rows[line]) {
+            addToTree(line, lineBreaks.length - rows[line]);
+            rows[line] = lineBreaks.length;
+        }
+        return lineBreaks;
+    }
+
+    private int calculateBreakPosition(int p0, int p1) {
+        Document doc = getDocument();
+        int end = Math.min(p1, doc.getLength());
+        if (end <= p0) {
+            return p1;
+        }
+        try {
+            doc.getText(p0, end - p0, segment);
+        } catch (BadLocationException e) {
+            return p1;
+        }
+        int p;
+        if (wordWrap) {
+            p = p0 + Utilities.getBreakLocation(segment, metrics, tabBase, tabBase + width, this, p0);
+        } else {
+            p = p0 + Utilities.getTabbedTextOffset(segment, metrics, tabBase, tabBase + width, this, p0, false);
+        }
+        if (p >= end) {
+            return p1;
+        }
+        return Math.max(p, p0 + 1);
+    }
+
+    private void drawRow(Graphics g, JTextComponent host, int p0, int p1, int x, int y) {
+        int end = Math.min(p1, getDocument().getLength());
+        if (end <= p0) {
+            return;
+        }
+        Color foreground = host.isEnabled() ? host.getForeground() : host.getDisabledTextColor();
+        Caret caret = host.getCaret();
+        int sel0 = host.getSelectionStart();
+        int sel1 = host.getSelectionEnd();
+        Color selected = host.getSelectedTextColor();
+        boolean selection = host.isEnabled() && selected != null && sel0 != sel1
+                && caret != null && caret.isSelectionVisible();
+        try {
+            if (!selection || sel1 <= p0 || sel0 >= end) {
+                drawText(g, foreground, p0, end, x, y);
+                return;
+            }
+            int s0 = Math.max(sel0, p0);
+            int s1 = Math.min(sel1, end);
+            x = drawText(g, foreground, p0, s0, x, y);
+            x = drawText(g, selected, s0, s1, x, y);
+            drawText(g, foreground, s1, end, x, y);
+        } catch (BadLocationException e) {
+            throw new IllegalStateException("Can't paint the row " + p0 + "-" + p1, e);
+        }
+    }
+
+    private int drawText(Graphics g, Color color, int p0, int p1, int x, int y) throws BadLocationException {
+        if (p1 <= p0) {
+            return x;
+        }
+        getDocument().getText(p0, p1 - p0, segment);
+        g.setColor(color);
+        return Utilities.drawTabbedText(segment, x, y, g, this, p0);
+    }
+
+    private void firePreferenceChangedLater() {
+        if (preferenceChangePending) {
+            return;
+        }
+        preferenceChangePending = true;
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                preferenceChangePending = false;
+                preferenceChanged(null, false, true);
+                Component host = getContainer();
+                if (host != null) {
+                    host.repaint();
+                }
+            }
+        });
+    }
+
+    //---------------------------------------------------
+    //Fenwick tree with the rows of the lines
+
+    private int getRowCount() {
+        return rowsBefore(rows.length);
+    }
+
+    private void buildTree() {
+        int size = rows.length;
+        tree = new int[size + 1];
+        for (int i = 1; i <= size; i++) {
+            tree[i] += rows[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= size) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private void addToTree(int line, int delta) {
+        for (int i = line + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the number of rows of the lines before the given line.
+     */
+    private int rowsBefore(int line) {
+        int sum = 0;
+        for (int i = line; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the line that contains the given row.
+     */
+    private int findLine(int row) {
+        int size = rows.length;
+        int line = 0;
+        int remaining = row;
+        for (int step = Integer.highestOneBit(Math.max(1, size)); step > 0; step >>= 1) {
+            int next = line + step;
+            if (next <= size && tree[next] <= remaining) {
+                line = next;
+                remaining -= tree[next];
+            }
+        }
+        return Math.min(line, size - 1);
+    }
+
+    /**
+     * The view of a single row, given to the LayeredHighlighter to paint the selection.
+     */
+    private class RowView extends View {
+
+        private int p0;
+        private int p1;
+
+        RowView(Element elem) {
+            super(elem);
+        }
+
+        void setRange(int p0, int p1) {
+            this.p0 = p0;
+            this.p1 = p1;
+        }
+
+        @Override
+        public int getStartOffset() {
+            return p0;
+        }
+
+        @Override
+        public int getEndOffset() {
+            return p1;
+        }
+
+        @Override
+        public float getPreferredSpan(int axis) {
+            return 0;
+        }
+
+        @Override
+        public void paint(Graphics g, Shape allocation) {
+        }
+
+        @Override
+        public Shape modelToView(int pos, Shape a, Position.Bias b) throws BadLocationException {
+            Rectangle alloc = a.getBounds();
+            int end = Math.max(p0, Math.min(pos, getDocument().getLength()));
+            getDocument().getText(p0, end - p0, segment);
+            int x = alloc.x + Utilities.getTabbedTextWidth(segment, metrics, tabBase, MaterialLazyWrappedView.this, p0);
+            return new Rectangle(x, alloc.y, 1, alloc.height);
+        }
+
+        @Override
+        public int viewToModel(float x, float y, Shape a, Position.Bias[] biasReturn) {
+            biasReturn[0] = Position.Bias.Forward;
+            return p0;
+        }
+    }
+}
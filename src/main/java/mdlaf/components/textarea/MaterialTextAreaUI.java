@@ -24,15 +24,36 @@
  */
 package mdlaf.components.textarea;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+import mdlaf.utils.MaterialThemeRefresher;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicTextAreaUI;
+import javax.swing.text.Element;
+import javax.swing.text.JTextComponent;
+import javax.swing.text.PlainView;
+import javax.swing.text.View;
 import java.awt.*;
+import java.beans.PropertyChangeEvent;
 
 /**
+ * The line wrap of the JTextArea comes from the theme (TextArea[lineWrap].enable and
+ * TextArea[wrapStyleWord].enable) and can be changed for a single component with the
+ * client properties {@link #LINE_WRAP} and {@link #WRAP_STYLE_WORD}.
+ * <p>
+ * With the client property {@link #LARGE_DOCUMENT} set to Boolean.TRUE the text area uses a
+ * PlainView when the line wrap is disabled, and a {@link MaterialLazyWrappedView} when it is
+ * enabled, so only the lines painted on the screen are wrapped.
+ *
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialTextAreaUI extends BasicTextAreaUI {
+public class MaterialTextAreaUI extends BasicTextAreaUI implements MaterialThemeRefreshable {
+
+    public static final String LINE_WRAP = "MaterialTextArea.lineWrap";
+    public static final String WRAP_STYLE_WORD = "MaterialTextArea.wrapStyleWord";
+    public static final String LARGE_DOCUMENT = "MaterialTextArea.largeDocument";
 
     @SuppressWarnings({"MethodOverridesStaticMethodOfSuperclass", "UnusedDeclaration"})
     public static ComponentUI createUI(JComponent c) {
@@ -46,8 +67,12 @@ public class MaterialTextAreaUI extends BasicTextAreaUI {
         JTextArea textArea = (JTextArea) c;
         textArea.setSelectedTextColor(UIManager.getColor("TextArea.selectionForeground"));
         textArea.setSelectionColor(UIManager.getColor("TextArea.selectionBackground"));
-        textArea.setLineWrap(true);
-        textArea.setWrapStyleWord(true); 
+        installWrap(textArea);
+    }
+
+    protected void installWrap(JTextArea textArea) {
+        textArea.setLineWrap(getWrapOption(textArea, LINE_WRAP, "TextArea[lineWrap].enable"));
+        textArea.setWrapStyleWord(getWrapOption(textArea, WRAP_STYLE_WORD, "TextArea[wrapStyleWord].enable"));
     }
 
     @Override
@@ -59,6 +84,61 @@ public class MaterialTextAreaUI extends BasicTextAreaUI {
 
     @Override
     public void update(Graphics g, JComponent c) {
-        super.update(g, c);
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
+    @Override
+    public View create(Element elem) {
+        JTextComponent component = getComponent();
+        Object i18n = elem.getDocument().getProperty("i18n");
+        if (!(component instanceof JTextArea) || Boolean.TRUE.equals(i18n) || !isLargeDocument(component)) {
+            return super.create(elem);
+        }
+        JTextArea textArea = (JTextArea) component;
+        if (textArea.getLineWrap()) {
+            return new MaterialLazyWrappedView(elem, textArea.getWrapStyleWord());
+        }
+        return new PlainView(elem);
+    }
+
+    @Override
+    protected void propertyChange(PropertyChangeEvent evt) {
+        super.propertyChange(evt);
+        String propertyName = evt.getPropertyName();
+        JTextComponent component = getComponent();
+        if (!(component instanceof JTextArea)) {
+            return;
+        }
+        JTextArea textArea = (JTextArea) component;
+        if (LINE_WRAP.equals(propertyName)) {
+            textArea.setLineWrap(getWrapOption(textArea, LINE_WRAP, "TextArea[lineWrap].enable"));
+        } else if (WRAP_STYLE_WORD.equals(propertyName)) {
+            textArea.setWrapStyleWord(getWrapOption(textArea, WRAP_STYLE_WORD, "TextArea[wrapStyleWord].enable"));
+        } else if (LARGE_DOCUMENT.equals(propertyName)) {
+            modelChanged();
+        }
+    }
+
+    protected boolean isLargeDocument(JComponent c) {
+        return Boolean.TRUE.equals(c.getClientProperty(LARGE_DOCUMENT));
+    }
+
+    private static boolean getWrapOption(JComponent c, String clientProperty, String defaultKey) {
+        Object value = c.getClientProperty(clientProperty);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return UIManager.getBoolean(defaultKey);
+    }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        MaterialThemeRefresher.refreshTextColors((JTextComponent) c, getPropertyPrefix());
+        installWrap((JTextArea) c);
     }
 }
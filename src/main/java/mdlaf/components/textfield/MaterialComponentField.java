@@ -24,6 +24,10 @@
  */
 package mdlaf.components.textfield;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+import mdlaf.utils.MaterialThemeRefresher;
+
 import javax.swing.*;
 import javax.swing.plaf.basic.BasicTextFieldUI;
 import javax.swing.text.JTextComponent;
@@ -37,7 +41,7 @@ import java.beans.PropertyChangeSupport;
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public abstract class MaterialComponentField extends BasicTextFieldUI {
+public abstract class MaterialComponentField extends BasicTextFieldUI implements MaterialThemeRefreshable {
 
     protected static final String PROPERTY_LINE_COLOR = "lineColor";
     protected static final String PROPERTY_SELECTION_COLOR = "selectionColor";
@@ -104,6 +108,14 @@ public abstract class MaterialComponentField extends BasicTextFieldUI {
         textComponent.setBorder(UIManager.getBorder(getPropertyPrefix() + ".border"));
     }
 
+    /**
+     * The caret and the highlighter are kept, only the colors installed by BasicTextUI.installDefaults are read again.
+     */
+    @Override
+    public void refreshTheme(JComponent c) {
+        MaterialThemeRefresher.refreshTextColors((JTextComponent) c, getPropertyPrefix());
+    }
+
     protected void logicForPropertyChange(Color newColor, boolean isForeground) {
         if (newColor == null) {
             return;
@@ -126,6 +138,10 @@ public abstract class MaterialComponentField extends BasicTextFieldUI {
         }
     }
 
+    /**
+     * The selection colors are changed by the focus listener with updateColorOnFocus, so this method
+     * paints only the line, a setter inside the paint method schedules an other repaint.
+     */
     protected void changeColorOnFocus(Graphics g) {
         boolean hasFocus = focused;
         JTextComponent c = getComponent();
@@ -133,16 +149,26 @@ public abstract class MaterialComponentField extends BasicTextFieldUI {
             return;
         }
         if (hasFocus && (activeBackground != null) && (activeForeground != null)) {
-            logicForChangeColorOnFocus(c, activeBackground, activeForeground);
             paintLine(g);
         }
 
         if (!hasFocus && (inactiveBackground != null) && (inactiveForeground != null)) {
-            logicForChangeColorOnFocus(c, inactiveBackground, inactiveForeground);
             paintLine(g);
         }
     }
 
+    protected void updateColorOnFocus() {
+        JTextComponent c = getComponent();
+        if (c == null) {
+            return;
+        }
+        if (focused) {
+            logicForChangeColorOnFocus(c, activeBackground, activeForeground);
+        } else {
+            logicForChangeColorOnFocus(c, inactiveBackground, inactiveForeground);
+        }
+    }
+
     protected synchronized void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
         if ((propertyName == null || propertyName.isEmpty()) || oldValue == null || newValue == null) {
             throw new IllegalArgumentException("Some property null");
@@ -151,6 +177,16 @@ public abstract class MaterialComponentField extends BasicTextFieldUI {
         propertyChangeSupport.firePropertyChange(propertyName, oldValue, newValue);
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     protected void paintLine(Graphics graphics) {
         if (graphics == null) {
             return;
@@ -179,6 +215,7 @@ public abstract class MaterialComponentField extends BasicTextFieldUI {
             firePropertyChange(PROPERTY_SELECTION_COLOR, inactiveBackground, activeBackground);
             firePropertyChange(PROPERTY_SELECTION_TEXT_COLOR, inactiveForeground, activeForeground);
             focused = true;
+            updateColorOnFocus();
         }
 
         @Override
@@ -187,6 +224,7 @@ public abstract class MaterialComponentField extends BasicTextFieldUI {
             firePropertyChange(PROPERTY_SELECTION_COLOR, activeBackground, inactiveBackground);
             firePropertyChange(PROPERTY_SELECTION_TEXT_COLOR, activeForeground, inactiveForeground);
             focused = false;
+            updateColorOnFocus();
         }
     }
 
@@ -60,6 +60,12 @@ public class MaterialTextFieldUI extends MaterialComponentField {
         installMyDefaults(c);
     }
 
+    @Override
+    public void refreshTheme(JComponent c) {
+        super.refreshTheme(c);
+        installMyDefaults(c);
+    }
+
     @Override
     protected void installDefaults() {
         super.installDefaults();
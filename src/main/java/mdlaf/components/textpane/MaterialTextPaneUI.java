@@ -24,14 +24,20 @@
  */
 package mdlaf.components.textpane;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+import mdlaf.utils.MaterialThemeRefresher;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicTextPaneUI;
+import javax.swing.text.JTextComponent;
+import java.awt.*;
 
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialTextPaneUI extends BasicTextPaneUI {
+public class MaterialTextPaneUI extends BasicTextPaneUI implements MaterialThemeRefreshable {
 
 
     @SuppressWarnings({"MethodOverridesStaticMethodOfSuperclass", "UnusedDeclaration"})
@@ -39,6 +45,16 @@ public class MaterialTextPaneUI extends BasicTextPaneUI {
         return new MaterialTextPaneUI();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void installUI(JComponent c) {
         super.installUI(c);
@@ -48,4 +64,9 @@ public class MaterialTextPaneUI extends BasicTextPaneUI {
     public void uninstallUI(JComponent c) {
         super.uninstallUI(c);
     }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        MaterialThemeRefresher.refreshTextColors((JTextComponent) c, getPropertyPrefix());
+    }
 }
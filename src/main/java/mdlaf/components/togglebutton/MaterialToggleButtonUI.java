@@ -24,7 +24,9 @@
  */
 package mdlaf.components.togglebutton;
 
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.border.Border;
@@ -32,13 +34,15 @@ import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.UIResource;
 import javax.swing.plaf.basic.BasicToggleButtonUI;
 import java.awt.*;
+import java.awt.event.ItemEvent;
+import java.awt.event.ItemListener;
 
 /**
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  * @author https://github.com/downToHell
  */
-public class MaterialToggleButtonUI extends BasicToggleButtonUI {
+public class MaterialToggleButtonUI extends BasicToggleButtonUI implements MaterialThemeRefreshable {
 
     protected Boolean withoutIcon;
     protected JToggleButton toggleButton;
@@ -51,17 +55,32 @@ public class MaterialToggleButtonUI extends BasicToggleButtonUI {
     protected Icon unselected;
     protected Border withoutIconSelectedBorder;
     protected Border withoutIconBorder;
+    protected ItemListener selectionListener = new MaterialSelectionListener();
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialToggleButtonUI();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void installUI(JComponent c) {
         super.installUI(c);
         toggleButton = (JToggleButton) c;
         this.disabledForeground = UIManager.getColor("RadioButton.disabledText");
         c.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        installStyle();
+    }
+
+    protected void installStyle() {
         /*
         If the expression toggleButton.getIcon() == null && toggleButton.getSelectedIcon() == null is false the JToggleButton have the
         personal icon, how inside the JFileChooser. Now the are two cases
@@ -96,6 +115,20 @@ public class MaterialToggleButtonUI extends BasicToggleButtonUI {
             LookAndFeel.installBorder(toggleButton, "ToggleButton.border");
             this.withoutIcon = Boolean.FALSE;
         }
+        updateWithoutIconStyle(toggleButton);
+    }
+
+    /**
+     * The Material icon set by this UI is removed before the style is installed again, so the
+     * toggle button is not mistaken for one with a personal icon.
+     */
+    @Override
+    public void refreshTheme(JComponent c) {
+        this.disabledForeground = UIManager.getColor("RadioButton.disabledText");
+        if (this.unselected != null && this.unselected == toggleButton.getIcon()) {
+            toggleButton.setIcon(null);
+        }
+        installStyle();
     }
 
     @Override
@@ -111,11 +144,23 @@ public class MaterialToggleButtonUI extends BasicToggleButtonUI {
     }
 
     @Override
-    public void paint(Graphics g, JComponent c) {
-        super.paint(g, c);
+    protected void installListeners(AbstractButton b) {
+        super.installListeners(b);
+        b.addItemListener(selectionListener);
+    }
+
+    @Override
+    protected void uninstallListeners(AbstractButton b) {
+        b.removeItemListener(selectionListener);
+        super.uninstallListeners(b);
+    }
 
+    /**
+     * The style without icon depends only on the selection, so it is changed when the selection changes
+     * and not inside the paint method, a change inside the paint method schedules an other repaint.
+     */
+    protected void updateWithoutIconStyle(AbstractButton button) {
         if (withoutIcon != null && withoutIcon && isNotNullColor(withoutIcon)) {
-            AbstractButton button = (AbstractButton) c;
             if (button.isSelected()) {
                 button.setBackground(withoutIconSelectedBackground);
                 button.setForeground(withoutIconSelectedForeground);
@@ -126,7 +171,6 @@ public class MaterialToggleButtonUI extends BasicToggleButtonUI {
                 button.setBorder(withoutIconBorder);
             }
         }
-
     }
 
     private boolean isNotNullColor(boolean withoutIcon) {
@@ -154,6 +198,14 @@ public class MaterialToggleButtonUI extends BasicToggleButtonUI {
         MaterialDrawingUtils.drawString(c, g, text, textRect, toggleButton.getDisplayedMnemonicIndex(), getTextShiftOffset(), disabledForeground);
     }
 
+    protected class MaterialSelectionListener implements ItemListener {
+
+        @Override
+        public void itemStateChanged(ItemEvent e) {
+            updateWithoutIconStyle((AbstractButton) e.getSource());
+        }
+    }
+
     protected class MaterialToggleButtonIcon implements  Icon, UIResource {
 
         protected Icon unselectedIcon;
@@ -24,6 +24,9 @@
  */
 package mdlaf.components.toolbar;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.border.Border;
 import javax.swing.plaf.ComponentUI;
@@ -36,15 +39,29 @@ import java.awt.event.ContainerListener;
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialToolBarUI extends BasicToolBarUI {
+public class MaterialToolBarUI extends BasicToolBarUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialToolBarUI();
     }
 
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void installUI(JComponent c) {
         super.installUI(c);
+        installDockingColors();
+    }
+
+    protected void installDockingColors() {
         this.dockingBorderColor = UIManager.getColor("ToolBar.dockingBackground");
         this.floatingBorderColor = UIManager.getColor("ToolBar.floatingBackground");
         this.dockingColor = UIManager.getColor("ToolBar.dockingBackground");
@@ -104,4 +121,10 @@ public class MaterialToolBarUI extends BasicToolBarUI {
 
     @Override
     protected Border createNonRolloverBorder() { return null; }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults();
+        installDockingColors();
+    }
 }
@@ -24,16 +24,35 @@
  */
 package mdlaf.components.tooltip;
 
+import mdlaf.themes.MaterialThemeRefreshable;
+import mdlaf.utils.MaterialPaintStatistics;
+
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.basic.BasicToolTipUI;
+import java.awt.*;
 
 /**
  * @author https://github.com/vincenzopalazzo
  * @author https://github.com/atarw
  */
-public class MaterialToolTipUI extends BasicToolTipUI {
+public class MaterialToolTipUI extends BasicToolTipUI implements MaterialThemeRefreshable {
     public static ComponentUI createUI(JComponent c) {
         return new MaterialToolTipUI();
     }
+
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults(c);
+    }
 }
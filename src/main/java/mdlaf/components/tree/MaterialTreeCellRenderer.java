@@ -24,6 +24,7 @@
 package mdlaf.components.tree;
 
 import javax.swing.*;
+import javax.swing.border.Border;
 import javax.swing.tree.DefaultTreeCellRenderer;
 import java.awt.*;
 
@@ -36,15 +37,19 @@ public class MaterialTreeCellRenderer extends DefaultTreeCellRenderer {
 	protected Color background;
 	protected Color selectedBackground;
 	protected Color selectedForeground;
+	protected Border border;
 
-	public MaterialTreeCellRenderer() {
+	@Override
+	public void updateUI() {
+		super.updateUI();
 		installColors();
+		installBorder();
 	}
 
 	@Override
 	public Component getTreeCellRendererComponent (JTree tree, Object value, boolean isSelected, boolean expanded, boolean leaf, int row, boolean hasFocus) {
 		super.getTreeCellRendererComponent (tree, value, isSelected, expanded, leaf, row, hasFocus);
-		setBorder (UIManager.getBorder("Tree.border"));
+		setBorder (border);
 		//setOpaque(true);
 		if(isSelected){
 			setBackgroundSelectionColor(selectedBackground);
@@ -78,4 +83,8 @@ public class MaterialTreeCellRenderer extends DefaultTreeCellRenderer {
 		selectedBackground = UIManager.getColor("Tree.selectionBackground");
 		selectedForeground = UIManager.getColor("Tree.selectionForeground");
 	}
+
+	protected void installBorder(){
+		border = UIManager.getBorder("Tree.border");
+	}
 }
@@ -23,7 +23,9 @@
  */
 package mdlaf.components.tree;
 
+import mdlaf.themes.MaterialThemeRefreshable;
 import mdlaf.utils.MaterialDrawingUtils;
+import mdlaf.utils.MaterialPaintStatistics;
 
 import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
@@ -31,16 +33,21 @@ import javax.swing.plaf.basic.BasicTreeUI;
 import javax.swing.tree.DefaultTreeCellRenderer;
 import javax.swing.tree.TreeCellEditor;
 import java.awt.*;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 
 /**
  * @author https://github.com/vincenzopalazzo
  */
-public class MaterialTreeUI extends BasicTreeUI {
+public class MaterialTreeUI extends BasicTreeUI implements MaterialThemeRefreshable {
 
     public static ComponentUI createUI(JComponent c) {
         return new MaterialTreeUI();
     }
 
+    protected boolean fixedRowHeight;
+    protected PropertyChangeListener fontChangeListener;
+
     @Override
     public void installUI(JComponent c) {
         super.installUI(c);
@@ -50,7 +57,7 @@ public class MaterialTreeUI extends BasicTreeUI {
 
         tree.setCellRenderer(renderer);
         tree.setCellEditor(editor);
-        tree.setRowHeight(0);
+        installRowHeight(renderer);
         tree.setInvokesStopCellEditing(true);
 
         setLeftChildIndent(10);
@@ -62,9 +69,70 @@ public class MaterialTreeUI extends BasicTreeUI {
     @Override
     public void uninstallUI(JComponent c) {
         tree.setCursor(Cursor.getDefaultCursor());
+        if (fontChangeListener != null) {
+            tree.removePropertyChangeListener("font", fontChangeListener);
+            fontChangeListener = null;
+        }
         super.uninstallUI(c);
     }
 
+    protected void installRowHeight(DefaultTreeCellRenderer renderer) {
+        fixedRowHeight = UIManager.getBoolean("Tree[fixedRowHeight].enable");
+        if (fixedRowHeight) {
+            //With a row height greater than zero and the large model the JTree uses the FixedHeightLayoutCache
+            tree.setRowHeight(calculateFixedRowHeight(renderer));
+            tree.setLargeModel(UIManager.getBoolean("Tree.largeModel"));
+            if (fontChangeListener == null) {
+                fontChangeListener = new MaterialFontChangeListener();
+                tree.addPropertyChangeListener("font", fontChangeListener);
+            }
+        } else {
+            tree.setRowHeight(0);
+            if (fontChangeListener != null) {
+                tree.removePropertyChangeListener("font", fontChangeListener);
+                fontChangeListener = null;
+            }
+        }
+    }
+
+    /**
+     * This method calculates the height of the rows when the fixed row height is enabled, the value
+     * "Tree.rowHeight" is used when it is greater than zero, otherwise the height is calculated only one time
+     * from the font and the border of the renderer, and from the icons of the renderer.
+     */
+    protected int calculateFixedRowHeight(DefaultTreeCellRenderer renderer) {
+        int rowHeight = UIManager.getInt("Tree.rowHeight");
+        if (rowHeight > 0) {
+            return rowHeight;
+        }
+        Font font = renderer.getFont() != null ? renderer.getFont() : tree.getFont();
+        if (font != null) {
+            rowHeight = tree.getFontMetrics(font).getHeight();
+        }
+        rowHeight = Math.max(rowHeight, getIconHeight(renderer.getOpenIcon()));
+        rowHeight = Math.max(rowHeight, getIconHeight(renderer.getClosedIcon()));
+        rowHeight = Math.max(rowHeight, getIconHeight(renderer.getLeafIcon()));
+        if (renderer instanceof MaterialTreeCellRenderer && ((MaterialTreeCellRenderer) renderer).border != null) {
+            Insets insets = ((MaterialTreeCellRenderer) renderer).border.getBorderInsets(renderer);
+            rowHeight += insets.top + insets.bottom;
+        }
+        return rowHeight;
+    }
+
+    private int getIconHeight(Icon icon) {
+        return icon == null ? 0 : icon.getIconHeight();
+    }
+
+    @Override
+    public void update(Graphics g, JComponent c) {
+        long start = MaterialPaintStatistics.beginPaint();
+        try {
+            super.update(g, c);
+        } finally {
+            MaterialPaintStatistics.endPaint(this, start);
+        }
+    }
+
     @Override
     public void paint(Graphics g, JComponent c) {
         g = MaterialDrawingUtils.getAliasedGraphics(g);
@@ -80,4 +148,35 @@ public class MaterialTreeUI extends BasicTreeUI {
     protected void paintHorizontalLine(Graphics g, JComponent c, int y, int left, int right) {
     }
 
+    /**
+     * The fixed row height depends on the font, so it is calculated again when the font of the tree changes.
+     */
+    protected class MaterialFontChangeListener implements PropertyChangeListener {
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            if (fixedRowHeight && tree.getCellRenderer() instanceof DefaultTreeCellRenderer) {
+                tree.setRowHeight(calculateFixedRowHeight((DefaultTreeCellRenderer) tree.getCellRenderer()));
+            }
+        }
+    }
+
+    /**
+     * The renderer is refreshed by MaterialThemeRefresher before the tree, so the fixed row height is calculated
+     * with the new font and icons, the editor keeps its text field so it is created again.
+     * The theme can also enable or disable the fixed row height and the large model.
+     */
+    @Override
+    public void refreshTheme(JComponent c) {
+        installDefaults();
+        setLeftChildIndent(10);
+        setRightChildIndent(10);
+        if (tree.getCellEditor() instanceof MaterialTreeCellEditor && !tree.isEditing()
+                && tree.getCellRenderer() instanceof DefaultTreeCellRenderer) {
+            tree.setCellEditor(new MaterialTreeCellEditor(tree, (DefaultTreeCellRenderer) tree.getCellRenderer()));
+        }
+        if (tree.getCellRenderer() instanceof DefaultTreeCellRenderer) {
+            installRowHeight((DefaultTreeCellRenderer) tree.getCellRenderer());
+        }
+    }
 }
\ No newline at end of file
@@ -27,16 +27,15 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Image;
 import java.awt.Insets;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
-import java.awt.image.ConvolveOp;
-import java.awt.image.Kernel;
-import java.util.HashMap;
+import java.awt.image.DataBufferInt;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -49,8 +48,13 @@ import java.util.Map;
  */
 public class DropShadowBorder extends AbstractBorder implements Border {
 
-	private static final Map<Integer, Map<Position, BufferedImage>> CACHE =  new HashMap<Integer, Map<Position, BufferedImage>> ();
+	/**
+	 * The themes use a few shadows, the cache keeps only the last used when a lot of borders are created
+	 */
+	private static final int MAX_CACHE_SIZE = 32;
+	private static final ShadowLRUMap CACHE = new ShadowLRUMap ();
 	private Color lineColor;
+	private Color shadowColor;
 	private int lineWidth;
 	private int shadowSize;
 	private float shadowOpacity;
@@ -75,7 +79,18 @@ public class DropShadowBorder extends AbstractBorder implements Border {
 	public DropShadowBorder (Color lineColor, int lineWidth, int shadowSize,
 	                         float shadowOpacity, int cornerSize, boolean showTopShadow,
 	                         boolean showLeftShadow, boolean showBottomShadow, boolean showRightShadow) {
+		this (lineColor, lineWidth, Color.BLACK, shadowSize, shadowOpacity, cornerSize, showTopShadow,
+				showLeftShadow, showBottomShadow, showRightShadow);
+	}
+
+	public DropShadowBorder (Color lineColor, int lineWidth, Color shadowColor, int shadowSize,
+	                         float shadowOpacity, int cornerSize, boolean showTopShadow,
+	                         boolean showLeftShadow, boolean showBottomShadow, boolean showRightShadow) {
+		if (shadowColor == null) {
+			throw new IllegalArgumentException ("Shadow color null");
+		}
 		this.lineColor = lineColor;
+		this.shadowColor = shadowColor;
 		this.lineWidth = lineWidth;
 		this.shadowSize = shadowSize;
 		this.shadowOpacity = shadowOpacity;
@@ -168,22 +183,22 @@ public class DropShadowBorder extends AbstractBorder implements Border {
 
 		if (showLeftShadow) {
 			Rectangle leftShadowRect = new Rectangle (x, (int) (topLeftShadowPoint.getY () + shadowSize), shadowSize, (int) (bottomLeftShadowPoint.getY () - topLeftShadowPoint.getY () - shadowSize));
-			g2.drawImage (images.get (Position.LEFT).getScaledInstance (leftShadowRect.width, leftShadowRect.height, Image.SCALE_FAST), leftShadowRect.x, leftShadowRect.y, null);
+			drawEdge (g2, images.get (Position.LEFT), leftShadowRect);
 		}
 
 		if (showBottomShadow) {
 			Rectangle bottomShadowRect = new Rectangle ((int) (bottomLeftShadowPoint.getX () + shadowSize), y + height - shadowSize, (int) (bottomRightShadowPoint.getX () - bottomLeftShadowPoint.getX () - shadowSize), shadowSize);
-			g2.drawImage (images.get (Position.BOTTOM).getScaledInstance (bottomShadowRect.width, bottomShadowRect.height, Image.SCALE_FAST), bottomShadowRect.x, bottomShadowRect.y, null);
+			drawEdge (g2, images.get (Position.BOTTOM), bottomShadowRect);
 		}
 
 		if (showRightShadow) {
 			Rectangle rightShadowRect = new Rectangle (x + width - shadowSize, (int) (topRightShadowPoint.getY () + shadowSize), shadowSize, (int) (bottomRightShadowPoint.getY () - topRightShadowPoint.getY () - shadowSize));
-			g2.drawImage (images.get (Position.RIGHT).getScaledInstance (rightShadowRect.width, rightShadowRect.height, Image.SCALE_FAST), rightShadowRect.x, rightShadowRect.y, null);
+			drawEdge (g2, images.get (Position.RIGHT), rightShadowRect);
 		}
 
 		if (showTopShadow) {
 			Rectangle topShadowRect = new Rectangle ((int) topLeftShadowPoint.getX () + shadowSize, y, (int) (topRightShadowPoint.getX () - topLeftShadowPoint.getX () - shadowSize), shadowSize);
-			g2.drawImage (images.get (Position.TOP).getScaledInstance (topShadowRect.width, topShadowRect.height, Image.SCALE_FAST), topShadowRect.x, topShadowRect.y, null);
+			drawEdge (g2, images.get (Position.TOP), topShadowRect);
 		}
 
 		if (showLeftShadow || showTopShadow) {
@@ -200,12 +215,27 @@ public class DropShadowBorder extends AbstractBorder implements Border {
 		}
 	}
 
+	/**
+	 * The edge images are one pixel thick, so stretching them with drawImage is enough
+	 * to fill the edge without build a scaled copy of the image on each paint.
+	 */
+	private static void drawEdge (Graphics2D g2, BufferedImage edge, Rectangle rect) {
+		if (rect.width <= 0 || rect.height <= 0) {
+			return;
+		}
+		g2.drawImage (edge, rect.x, rect.y, rect.width, rect.height, null);
+	}
+
 	private Map<Position, BufferedImage> getImages (Graphics2D g2) {
-		//first, check to see if an image for this size has already been rendered
+		//first, check to see if an image for this shadow has already been rendered
 		//if so, use the cache. Else, draw and save
-		Map<Position, BufferedImage> images = CACHE.get (shadowSize);
+		ShadowKey key = new ShadowKey (shadowSize, cornerSize, shadowOpacity, shadowColor);
+		Map<Position, BufferedImage> images;
+		synchronized (CACHE) {
+			images = CACHE.get (key);
+		}
 		if (images == null) {
-			images = new HashMap<Position, BufferedImage> ();
+			images = new EnumMap<Position, BufferedImage> (Position.class);
 
 			/*
 			 * Do draw a drop shadows, I have to:
@@ -216,79 +246,98 @@ public class DropShadowBorder extends AbstractBorder implements Border {
 			 *     needs to be shadowWidth wide, so that there is space for the
 			 *     shadows to be drawn.
 			 *  4) Draw the rounded rect as black, with an opacity of 50%
-			 *  5) Create the BLUR_KERNEL
-			 *  6) Blur the image
+			 *  5) Blur the image with the same spread of a shadowSize box kernel
+			 *  6) Move the blurred image in the target image
 			 *  7) copy off the corners, sides, etc into images to be used for
 			 *     drawing the Border
 			 */
 			int rectWidth = cornerSize + 1;
 			RoundRectangle2D rect = new RoundRectangle2D.Double (0, 0, rectWidth, rectWidth, cornerSize, cornerSize);
 			int imageWidth = rectWidth + shadowSize * 2;
-			BufferedImage image = new BufferedImage (imageWidth, imageWidth, BufferedImage.TYPE_INT_ARGB);
+			BufferedImage image = new BufferedImage (imageWidth, imageWidth, BufferedImage.TYPE_INT_ARGB_PRE);
 			Graphics2D buffer = (Graphics2D) image.getGraphics ();
 			buffer.setRenderingHint (RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 			buffer.setRenderingHint (RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 			buffer.setRenderingHint (RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 			buffer.setRenderingHint (RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
-			buffer.setColor (new Color (0.0f, 0.0f, 0.0f, shadowOpacity));
+			buffer.setColor (new Color (shadowColor.getRed (), shadowColor.getGreen (), shadowColor.getBlue (), Math.round (shadowOpacity * 255)));
 			buffer.translate (shadowSize, shadowSize);
 			buffer.fill (rect);
-			float blurry = 1.0f / (float) (shadowSize * shadowSize);//1.0f / (float)(shadowSize * shadowSize);
-			float[] blurKernel = new float[shadowSize * shadowSize];
-			for (int i = 0; i < blurKernel.length; i++) {
-				blurKernel[i] = blurry;
-			}
-			ConvolveOp blur = new ConvolveOp (new Kernel (shadowSize, shadowSize, blurKernel));
+			int[] pixels = ((DataBufferInt) image.getRaster ().getDataBuffer ()).getData ();
+			MaterialShadowBlur.blur (pixels, imageWidth, imageWidth, MaterialShadowBlur.sigmaForBoxSize (shadowSize));
 			BufferedImage targetImage = new BufferedImage (imageWidth, imageWidth, BufferedImage.TYPE_INT_ARGB);
-			((Graphics2D) targetImage.getGraphics ()).drawImage (image, blur, -(shadowSize / 2), -(shadowSize / 2));
+			Graphics2D target = targetImage.createGraphics ();
+			target.drawImage (image, -(shadowSize / 2), -(shadowSize / 2), null);
+			target.dispose ();
 
 			int x = 1;
 			int y = 1;
 			int w = shadowSize;
 			int h = shadowSize;
-			images.put (Position.TOP_LEFT, targetImage.getSubimage (x, y, w, h));
+			images.put (Position.TOP_LEFT, copyOf (targetImage.getSubimage (x, y, w, h)));
 			x = 1;
 			y = h;
 			w = shadowSize;
 			h = 1;
-			images.put (Position.LEFT, targetImage.getSubimage (x, y, w, h));
+			images.put (Position.LEFT, copyOf (targetImage.getSubimage (x, y, w, h)));
 			x = 1;
 			y = rectWidth;
 			w = shadowSize;
 			h = shadowSize;
-			images.put (Position.BOTTOM_LEFT, targetImage.getSubimage (x, y, w, h));
+			images.put (Position.BOTTOM_LEFT, copyOf (targetImage.getSubimage (x, y, w, h)));
 			x = cornerSize + 1;
 			y = rectWidth;
 			w = 1;
 			h = shadowSize;
-			images.put (Position.BOTTOM, targetImage.getSubimage (x, y, w, h));
+			images.put (Position.BOTTOM, copyOf (targetImage.getSubimage (x, y, w, h)));
 			x = rectWidth;
 			y = x;
 			w = shadowSize;
 			h = shadowSize;
-			images.put (Position.BOTTOM_RIGHT, targetImage.getSubimage (x, y, w, h));
+			images.put (Position.BOTTOM_RIGHT, copyOf (targetImage.getSubimage (x, y, w, h)));
 			x = rectWidth;
 			y = cornerSize + 1;
 			w = shadowSize;
 			h = 1;
-			images.put (Position.RIGHT, targetImage.getSubimage (x, y, w, h));
+			images.put (Position.RIGHT, copyOf (targetImage.getSubimage (x, y, w, h)));
 			x = rectWidth;
 			y = 1;
 			w = shadowSize;
 			h = shadowSize;
-			images.put (Position.TOP_RIGHT, targetImage.getSubimage (x, y, w, h));
+			images.put (Position.TOP_RIGHT, copyOf (targetImage.getSubimage (x, y, w, h)));
 			x = shadowSize;
 			y = 1;
 			w = 1;
 			h = shadowSize;
-			images.put (Position.TOP, targetImage.getSubimage (x, y, w, h));
+			images.put (Position.TOP, copyOf (targetImage.getSubimage (x, y, w, h)));
 
 			buffer.dispose ();
 			image.flush ();
+			targetImage.flush ();
+			synchronized (CACHE) {
+				Map<Position, BufferedImage> cached = CACHE.get (key);
+				if (cached != null) {
+					images = cached;
+				} else {
+					CACHE.put (key, images);
+				}
+			}
 		}
 		return images;
 	}
 
+	/**
+	 * A sub image shares the raster of the blurred image, we copy it in a own image
+	 * so the slice can be cached by java2d like any other image.
+	 */
+	private static BufferedImage copyOf (BufferedImage slice) {
+		BufferedImage copy = new BufferedImage (slice.getWidth (), slice.getHeight (), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = copy.createGraphics ();
+		g.drawImage (slice, 0, 0, null);
+		g.dispose ();
+		return copy;
+	}
+
 	public Insets getBorderInsets (Component c) {
 		int top = 4 + (showTopShadow ? lineWidth + shadowSize : lineWidth);
 		int left = 4 + (showLeftShadow ? lineWidth + shadowSize : lineWidth);
@@ -326,6 +375,10 @@ public class DropShadowBorder extends AbstractBorder implements Border {
 		return lineColor;
 	}
 
+	public Color getShadowColor () {
+		return shadowColor;
+	}
+
 	public int getShadowSize () {
 		return shadowSize;
 	}
@@ -338,6 +391,56 @@ public class DropShadowBorder extends AbstractBorder implements Border {
 		return cornerSize;
 	}
 
+	private static final class ShadowKey {
+
+		private final int shadowSize;
+		private final int cornerSize;
+		private final float shadowOpacity;
+		private final int shadowColor;
+
+		private ShadowKey (int shadowSize, int cornerSize, float shadowOpacity, Color shadowColor) {
+			this.shadowSize = shadowSize;
+			this.cornerSize = cornerSize;
+			this.shadowOpacity = shadowOpacity;
+			// The alpha of the shadow color is not painted, the opacity is used
+			this.shadowColor = shadowColor.getRGB () & 0xFFFFFF;
+		}
+
+		@Override
+		public boolean equals (Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof ShadowKey)) {
+				return false;
+			}
+			ShadowKey other = (ShadowKey) o;
+			return shadowSize == other.shadowSize && cornerSize == other.cornerSize
+					&& Float.compare (shadowOpacity, other.shadowOpacity) == 0 && shadowColor == other.shadowColor;
+		}
+
+		@Override
+		public int hashCode () {
+			int result = shadowSize;
+			result = 31 * result + cornerSize;
+			result = 31 * result + Float.floatToIntBits (shadowOpacity);
+			result = 31 * result + shadowColor;
+			return result;
+		}
+	}
+
+	private static final class ShadowLRUMap extends LinkedHashMap<ShadowKey, Map<Position, BufferedImage>> {
+
+		private ShadowLRUMap () {
+			super (16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry (Map.Entry<ShadowKey, Map<Position, BufferedImage>> eldest) {
+			return size () > MAX_CACHE_SIZE;
+		}
+	}
+
 	private enum Position {
 		TOP, TOP_LEFT, LEFT, BOTTOM_LEFT,
 		BOTTOM, BOTTOM_RIGHT, RIGHT, TOP_RIGHT
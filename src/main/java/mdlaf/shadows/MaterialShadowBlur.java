@@ -0,0 +1,152 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.shadows;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+
+/**
+ * This class blurs an ARGB raster with an approximation of the gaussian blur, the blur is made with
+ * three box blurs, and each box blur is made with two passes (horizontal and vertical) with a running sum,
+ * so the cost for each pixel is the same with all radius.
+ *
+ * The pixels must be premultiplied (like the TYPE_INT_ARGB_PRE images), otherwise the color of the
+ * transparent pixels go inside the shadow.
+ * The pixels out of the raster are the same of the nearest edge pixel, so the edges are not clipped.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public class MaterialShadowBlur {
+
+    private static final int BOXES = 3;
+
+    /**
+     * Blur the premultiplied pixels (width x height) in place with the standard deviation sigma.
+     */
+    public static void blur(int[] pixels, int width, int height, double sigma) {
+        if (pixels == null) {
+            throw new IllegalArgumentException("Pixels null");
+        }
+        if (width <= 0 || height <= 0 || pixels.length < width * height) {
+            throw new IllegalArgumentException("The raster " + width + "x" + height + " is not valid for " + pixels.length + " pixels");
+        }
+        if (sigma < 0) {
+            throw new IllegalArgumentException("The sigma must be positive");
+        }
+        int[] buffer = new int[width * height];
+        for (int size : boxSizes(sigma, BOXES)) {
+            int radius = (size - 1) / 2;
+            if (radius == 0) {
+                continue;
+            }
+            // The pass writes the result transposed, so two passes blur both directions
+            // and leave the pixels in the original order.
+            blurTransposed(pixels, buffer, width, height, radius);
+            blurTransposed(buffer, pixels, height, width, radius);
+        }
+    }
+
+    /**
+     * Blur the image and return a new TYPE_INT_ARGB_PRE image with the result.
+     */
+    public static BufferedImage blur(BufferedImage image, double sigma) {
+        if (image == null) {
+            throw new IllegalArgumentException("Image null");
+        }
+        BufferedImage result = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D graphics = result.createGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        int[] pixels = ((DataBufferInt) result.getRaster().getDataBuffer()).getData();
+        blur(pixels, result.getWidth(), result.getHeight(), sigma);
+        return result;
+    }
+
+    /**
+     * The sigma of the gaussian with the same variance of a box blur with the size boxSize,
+     * it is util to replace a box kernel with this blur without change the spread of the shadow.
+     */
+    public static double sigmaForBoxSize(int boxSize) {
+        if (boxSize <= 1) {
+            return 0;
+        }
+        return Math.sqrt((boxSize * boxSize - 1) / 12.0);
+    }
+
+    /**
+     * The sizes of n box blurs that together approximate the gaussian with the standard deviation sigma,
+     * all sizes are odd so each box is centered on the pixel.
+     */
+    static int[] boxSizes(double sigma, int n) {
+        double idealWidth = Math.sqrt(12 * sigma * sigma / n + 1);
+        int lower = (int) Math.floor(idealWidth);
+        if (lower % 2 == 0) {
+            lower--;
+        }
+        int upper = lower + 2;
+        double idealCount = (12 * sigma * sigma - n * lower * lower - 4 * n * lower - 3 * n) / (-4.0 * lower - 4);
+        long lowerCount = Math.round(idealCount);
+        int[] sizes = new int[n];
+        for (int i = 0; i < n; i++) {
+            sizes[i] = i < lowerCount ? lower : upper;
+        }
+        return sizes;
+    }
+
+    private static void blurTransposed(int[] source, int[] target, int width, int height, int radius) {
+        int window = radius * 2 + 1;
+        int half = window / 2;
+        int last = width - 1;
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            int alpha = 0;
+            int red = 0;
+            int green = 0;
+            int blue = 0;
+            for (int i = -radius; i <= radius; i++) {
+                int pixel = source[row + Math.min(Math.max(i, 0), last)];
+                alpha += pixel >>> 24;
+                red += (pixel >> 16) & 0xFF;
+                green += (pixel >> 8) & 0xFF;
+                blue += pixel & 0xFF;
+            }
+            int targetIndex = y;
+            for (int x = 0; x < width; x++) {
+                target[targetIndex] = ((alpha + half) / window) << 24
+                        | ((red + half) / window) << 16
+                        | ((green + half) / window) << 8
+                        | ((blue + half) / window);
+                targetIndex += height;
+
+                int pixelIn = source[row + Math.min(x + radius + 1, last)];
+                int pixelOut = source[row + Math.max(x - radius, 0)];
+                alpha += (pixelIn >>> 24) - (pixelOut >>> 24);
+                red += ((pixelIn >> 16) & 0xFF) - ((pixelOut >> 16) & 0xFF);
+                green += ((pixelIn >> 8) & 0xFF) - ((pixelOut >> 8) & 0xFF);
+                blue += (pixelIn & 0xFF) - (pixelOut & 0xFF);
+            }
+        }
+    }
+}
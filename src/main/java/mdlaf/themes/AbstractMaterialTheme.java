@@ -524,118 +524,118 @@ public abstract class AbstractMaterialTheme implements MaterialTheme {
     }
 
     protected void installIcons() {
-        this.iconComputerFileChooser = MaterialImageFactory.getInstance().getImage(
+        this.iconComputerFileChooser = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.COMPUTER,
                 textColor
         );
-        this.iconDirectoryFileChooser = MaterialImageFactory.getInstance().getImage(
+        this.iconDirectoryFileChooser = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.FOLDER,
                 textColor
         );
-        this.iconFileFileChooser = MaterialImageFactory.getInstance().getImage(
+        this.iconFileFileChooser = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.INSERT_DRIVE_FILE,
                 textColor
         );
-        this.iconFloppyDriveFileChooser = MaterialImageFactory.getInstance().getImage(
+        this.iconFloppyDriveFileChooser = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.SAVE,
                 textColor
         );
-        this.iconHardDriveFileChooser = MaterialImageFactory.getInstance().getImage(
+        this.iconHardDriveFileChooser = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.STORAGE,
                 textColor
         );
-        this.iconHomeFileChooser = MaterialImageFactory.getInstance().getImage(
+        this.iconHomeFileChooser = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.HOME,
                 textColor
         );
-        this.iconListFileChooser = MaterialImageFactory.getInstance().getImage(
+        this.iconListFileChooser = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.MENU,
                 textColor
         );
-        this.iconDetailsFileChooser = MaterialImageFactory.getInstance().getImage(
+        this.iconDetailsFileChooser = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.VIEW_MODULE,
                 textColor
         );
-        this.iconNewFolderFileChooser = MaterialImageFactory.getInstance().getImage(
+        this.iconNewFolderFileChooser = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CREATE_NEW_FOLDER,
                 textColor
         );
-        this.iconUpFolderFileChooser = MaterialImageFactory.getInstance().getImage(
+        this.iconUpFolderFileChooser = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.ARROW_BACK,
                 textColor
         );
 
-        this.iconCloseTitlePane = MaterialImageFactory.getInstance().getImage(
+        this.iconCloseTitlePane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CLOSE,
                 25,
                 textColor
         );
 
-        this.previousButtonIconSpinner = MaterialImageFactory.getInstance().getImage(
+        this.previousButtonIconSpinner = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.ARROW_DROP_DOWN,
                 textColor
         );
 
-        this.nextButtonIconSpinner = MaterialImageFactory.getInstance().getImage(
+        this.nextButtonIconSpinner = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.ARROW_DROP_UP,
                 textColor
         );
 
-        this.selectedCheckBoxIcon = MaterialImageFactory.getInstance().getImage(
+        this.selectedCheckBoxIcon = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX,
                 highlightBackgroundPrimary
         );
 
-        this.unselectedCheckBoxIcon = MaterialImageFactory.getInstance().getImage(
+        this.unselectedCheckBoxIcon = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX_OUTLINE_BLANK,
                 textColor
         );
 
-        this.disabledUnselectedCheckBoxIcon = MaterialImageFactory.getInstance().getImage(
+        this.disabledUnselectedCheckBoxIcon = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX_OUTLINE_BLANK,
                 disableTextColor
         );
 
-        this.disabledSelectedCheckBoxIcon = MaterialImageFactory.getInstance().getImage(
+        this.disabledSelectedCheckBoxIcon = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX,
                 disableTextColor
         );
 
-        this.selectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getImage(
+        this.selectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX,
                 highlightBackgroundPrimary
         );
-        this.unselectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getImage(
+        this.unselectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX_OUTLINE_BLANK,
                 highlightBackgroundPrimary
         );
 
-        this.selectedCheckBoxIconTable = MaterialImageFactory.getInstance().getImage(
+        this.selectedCheckBoxIconTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX,
                 highlightBackgroundPrimary
         );
-        this.unselectedCheckBoxIconTable = MaterialImageFactory.getInstance().getImage(
+        this.unselectedCheckBoxIconTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX_OUTLINE_BLANK,
                 highlightBackgroundPrimary
         );
 
-        this.closedIconTree = MaterialImageFactory.getInstance().getImage(
+        this.closedIconTree = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.KEYBOARD_ARROW_RIGHT,
                 textColor
         );
 
-        this.openIconTree = MaterialImageFactory.getInstance().getImage(
+        this.openIconTree = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.KEYBOARD_ARROW_DOWN,
                 highlightBackgroundPrimary
         );
 
         //this.yesCollapsedTaskPane = MaterialImageFactory.getInstance().getImage(MaterialImageFactory.YES_COLLAPSED);
-        this.noCollapsedTaskPane = MaterialImageFactory.getInstance().getImage(
+        this.noCollapsedTaskPane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.KEYBOARD_ARROW_RIGHT
         );
 
         //this.noCollapsedTaskPane = MaterialImageFactory.getInstance().getImage(MaterialImageFactory.NO_COLLAPSED);
-        this.yesCollapsedTaskPane = MaterialImageFactory.getInstance().getImage(
+        this.yesCollapsedTaskPane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.KEYBOARD_ARROW_DOWN
         );
 
@@ -649,97 +649,97 @@ public abstract class AbstractMaterialTheme implements MaterialTheme {
                 MaterialImageFactory.BLANK
         );
 
-        this.unselectedIconToggleButton = MaterialImageFactory.getInstance().getImage(
+        this.unselectedIconToggleButton = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.TOGGLE_OFF,
                 26,
                 textColor
         );
-        this.selectedIconToggleButton = MaterialImageFactory.getInstance().getImage(
+        this.selectedIconToggleButton = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.TOGGLE_ON,
                 26,
                 highlightBackgroundPrimary
         );
 
-        this.disabledUnselectedIconToggleButton = MaterialImageFactory.getInstance().getImage(
+        this.disabledUnselectedIconToggleButton = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.TOGGLE_OFF,
                 26,
                 disableTextColor
         );
-        this.disabledSelectedIconToggleButton = MaterialImageFactory.getInstance().getImage(
+        this.disabledSelectedIconToggleButton = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.TOGGLE_ON,
                 26,
                 disableTextColor
         );
 
-        this.selectedRadioButtonIcon = MaterialImageFactory.getInstance().getImage(
+        this.selectedRadioButtonIcon = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.RADIO_BUTTON_CHECKED,
                 highlightBackgroundPrimary
         );
-        this.unselectedRadioButtonIcon = MaterialImageFactory.getInstance().getImage(
+        this.unselectedRadioButtonIcon = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.RADIO_BUTTON_UNCHECKED,
                 textColor
         );
 
-        this.disabledSelectedRadioButtonIcon = MaterialImageFactory.getInstance().getImage(
+        this.disabledSelectedRadioButtonIcon = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.RADIO_BUTTON_CHECKED,
                 disableTextColor
         );
-        this.disabledUnselectedRadioButtonIcon = MaterialImageFactory.getInstance().getImage(
+        this.disabledUnselectedRadioButtonIcon = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.RADIO_BUTTON_UNCHECKED,
                 disableTextColor
         );
 
-        this.topIconTabbedPane = MaterialImageFactory.getInstance().getImage(
+        this.topIconTabbedPane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.EXPAND_LESS,
                 colorIconTabbedPane
         );
 
-        this.disabledTopIconTabbedPane = MaterialImageFactory.getInstance().getImage(
+        this.disabledTopIconTabbedPane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.EXPAND_LESS,
                 colorDisabledIconTabbedPane
         );
 
-        this.bottomIconTabbedPane = MaterialImageFactory.getInstance().getImage(
+        this.bottomIconTabbedPane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.EXPAND_MORE,
                 colorIconTabbedPane
         );
 
-        this.disabledBottomIconTabbedPane = MaterialImageFactory.getInstance().getImage(
+        this.disabledBottomIconTabbedPane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.EXPAND_MORE,
                 colorDisabledIconTabbedPane
         );
 
-        this.leftIconTabbedPane = MaterialImageFactory.getInstance().getImage(
+        this.leftIconTabbedPane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHEVRON_LEFT,
                 colorIconTabbedPane
         );
 
-        this.disabledLeftIconTabbedPane = MaterialImageFactory.getInstance().getImage(
+        this.disabledLeftIconTabbedPane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHEVRON_LEFT,
                 colorDisabledIconTabbedPane
         );
 
-        this.rightIconTabbedPane = MaterialImageFactory.getInstance().getImage(
+        this.rightIconTabbedPane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHEVRON_RIGHT,
                 colorIconTabbedPane
         );
 
-        this.disabledRightIconTabbedPane = MaterialImageFactory.getInstance().getImage(
+        this.disabledRightIconTabbedPane = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHEVRON_RIGHT,
                 colorDisabledIconTabbedPane
         );
 
-        this.buttonIconComboBox = MaterialImageFactory.getInstance().getImage(
+        this.buttonIconComboBox = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.KEYBOARD_ARROW_DOWN,
                 textColor
         );
 
-        this.buttonSelectIconComboBox = MaterialImageFactory.getInstance().getImage(
+        this.buttonSelectIconComboBox = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.KEYBOARD_ARROW_UP,
                 textColor
         );
 
-        this.buttonDisabledIconComboBox = MaterialImageFactory.getInstance().getImage(
+        this.buttonDisabledIconComboBox = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.KEYBOARD_ARROW_DOWN,
                 disableTextColor
         );
@@ -1453,6 +1453,7 @@ public abstract class AbstractMaterialTheme implements MaterialTheme {
     public BorderUIResource getBorderTree() {
         return borderTree;
     }
+
     //---------------------------------------------------
     //Proprieties JToggleButton
 
@@ -42,20 +42,20 @@ public class JMarsDarkTheme extends AbstractMaterialTheme {
     @Override
     protected void installIcons() {
         super.installIcons();
-        this.selectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getImage(
+        this.selectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX,
                 MaterialColors.WHITE
         );
-        this.unselectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getImage(
+        this.unselectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX_OUTLINE_BLANK,
                 MaterialColors.WHITE
         );
 
-        this.selectedCheckBoxIconTable = MaterialImageFactory.getInstance().getImage(
+        this.selectedCheckBoxIconTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX,
                 highlightBackgroundPrimary
         );
-        this.unselectedCheckBoxIconTable = MaterialImageFactory.getInstance().getImage(
+        this.unselectedCheckBoxIconTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX_OUTLINE_BLANK,
                 highlightBackgroundPrimary
         );
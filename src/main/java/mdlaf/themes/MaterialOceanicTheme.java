@@ -43,25 +43,25 @@ public class MaterialOceanicTheme extends AbstractMaterialTheme{
     protected void installIcons() {
         super.installIcons();
 
-        this.selectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getImage(
+        this.selectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX,
                 MaterialColors.COSMO_BLACK
         );
-        this.unselectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getImage(
+        this.unselectedCheckBoxIconSelectionRowTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX_OUTLINE_BLANK,
                 MaterialColors.COSMO_BLACK
         );
 
-        this.selectedCheckBoxIconTable = MaterialImageFactory.getInstance().getImage(
+        this.selectedCheckBoxIconTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX,
                 highlightBackgroundPrimary
         );
-        this.unselectedCheckBoxIconTable = MaterialImageFactory.getInstance().getImage(
+        this.unselectedCheckBoxIconTable = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX_OUTLINE_BLANK,
                 highlightBackgroundPrimary
         );
 
-        this.unselectedCheckBoxIcon = MaterialImageFactory.getInstance().getImage(
+        this.unselectedCheckBoxIcon = MaterialImageFactory.getInstance().getLazyImage(
                 MaterialIconFont.CHECK_BOX_OUTLINE_BLANK,
                 textColor
         );
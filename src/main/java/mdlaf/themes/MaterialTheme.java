@@ -403,6 +403,29 @@ public interface MaterialTheme {
 
     BorderUIResource getBorderTree();
 
+    /**
+     * When this propriety is true all rows of the JTree have the same height and the tree doesn't ask
+     * the renderer the size of each row.
+     */
+    default boolean getFixedRowHeightTree() {
+        return false;
+    }
+
+    /**
+     * This value is used only with the fixed row height, if it is not greater than zero the height
+     * is calculated from the font and the border of the renderer.
+     */
+    default int getRowHeightTree() {
+        return 0;
+    }
+
+    /**
+     * This value is used only with the fixed row height.
+     */
+    default boolean getLargeModelTree() {
+        return true;
+    }
+
     //---------------------------------------------------
     //Proprieties JTextField and JPasswordField
     ColorUIResource getBackgroundTextField();
@@ -427,6 +450,24 @@ public interface MaterialTheme {
 
     char getEchoCharPasswordField();
 
+    //---------------------------------------------------
+    //Proprieties JTextArea
+    /**
+     * Default value of JTextArea.setLineWrap, a single JTextArea can override it with
+     * the client property MaterialTextAreaUI.LINE_WRAP.
+     */
+    default boolean getLineWrapTextArea() {
+        return true;
+    }
+
+    /**
+     * Default value of JTextArea.setWrapStyleWord, a single JTextArea can override it with
+     * the client property MaterialTextAreaUI.WRAP_STYLE_WORD.
+     */
+    default boolean getWrapStyleWordTextArea() {
+        return true;
+    }
+
     //---------------------------------------------------
     //Proprieties JXTaskPane
     ColorUIResource getTitleBackgroundGradientStartTaskPane();
@@ -26,7 +26,15 @@ package mdlaf.utils;
 import javax.swing.*;
 import javax.swing.plaf.basic.BasicGraphicsUtils;
 import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.LineMetrics;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author https://github.com/vincenzopalazzo
@@ -34,29 +42,42 @@ import java.util.Map;
  */
 public class MaterialDrawingUtils {
 
+    private static final String DESKTOP_HINTS = "awt.font.desktophints";
+
+    /**
+     * The hints are computed only one time and recomputed when the desktop property changes,
+     * the value null means that the desktop doesn't have hints, as in the headless environment.
+     */
+    private static volatile RenderingHints aliasedHints;
+    private static volatile boolean aliasedHintsResolved = false;
+
+    public static final int DEFAULT_MAX_TEXT_CACHE_SIZE = 1024;
+    private static final TextLayoutLRUMap TEXT_CACHE = new TextLayoutLRUMap();
+    private static final AtomicLong textCacheHits = new AtomicLong();
+    private static final AtomicLong textCacheMisses = new AtomicLong();
+
     static {
         System.setProperty("awt.useSystemAAFontSettings", "on");
         System.setProperty("swing.aatext", "true");
         System.setProperty("sun.java2d.xrender", "true");
+        Toolkit.getDefaultToolkit().addPropertyChangeListener(DESKTOP_HINTS, new PropertyChangeListener() {
+            @Override
+            public void propertyChange(PropertyChangeEvent evt) {
+                aliasedHintsResolved = false;
+            }
+        });
     }
 
     /**
      * The documentation https://docs.oracle.com/javase/tutorial/2d/text/renderinghints.html
      */
     public static Graphics getAliasedGraphics(Graphics g) {
-        Map<RenderingHints.Key, Object> hints = (Map<RenderingHints.Key, Object>) Toolkit.getDefaultToolkit().getDesktopProperty("awt.font.desktophints");
-
-        if (hints != null) {
-            hints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            hints.put(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_DEFAULT);
-            hints.put(RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_DEFAULT);
-            //hints.put(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HRGB);
-            hints.put(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
-            hints.put(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-            //hints.put(RenderingHints.KEY_TEXT_ANTIALIASING,	RenderingHints.VALUE_TEXT_ANTIALIAS_GASP);
-
+        RenderingHints hints = getAliasedHints();
+        if (hints != null && g instanceof Graphics2D) {
             Graphics2D g2d = (Graphics2D) g;
-            g2d.addRenderingHints(hints);
+            if (!isAliased(g2d)) {
+                g2d.addRenderingHints(hints);
+            }
             return g2d;
         }
 
@@ -64,6 +85,46 @@ public class MaterialDrawingUtils {
         return g;
     }
 
+    private static RenderingHints getAliasedHints() {
+        if (!aliasedHintsResolved) {
+            aliasedHints = createAliasedHints();
+            aliasedHintsResolved = true;
+        }
+        return aliasedHints;
+    }
+
+    /**
+     * The desktop map is shared inside the Toolkit, so the hints are copied and never modified after the creation.
+     */
+    private static RenderingHints createAliasedHints() {
+        Map<?, ?> desktopHints = (Map<?, ?>) Toolkit.getDefaultToolkit().getDesktopProperty(DESKTOP_HINTS);
+        if (desktopHints == null) {
+            return null;
+        }
+        RenderingHints hints = new RenderingHints(null);
+        hints.putAll(desktopHints);
+        hints.put(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        hints.put(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_DEFAULT);
+        hints.put(RenderingHints.KEY_COLOR_RENDERING, RenderingHints.VALUE_COLOR_RENDER_DEFAULT);
+        //hints.put(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HRGB);
+        hints.put(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        hints.put(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        //hints.put(RenderingHints.KEY_TEXT_ANTIALIASING,	RenderingHints.VALUE_TEXT_ANTIALIAS_GASP);
+        return hints;
+    }
+
+    /**
+     * This method checks the hints set by getAliasedGraphics, when the graphics contains
+     * all of them the hints was already applied and it is not necessary to apply them again.
+     */
+    private static boolean isAliased(Graphics2D g2d) {
+        return g2d.getRenderingHint(RenderingHints.KEY_ANTIALIASING) == RenderingHints.VALUE_ANTIALIAS_ON
+                && g2d.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING) == RenderingHints.VALUE_TEXT_ANTIALIAS_ON
+                && g2d.getRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS) == RenderingHints.VALUE_FRACTIONALMETRICS_ON
+                && g2d.getRenderingHint(RenderingHints.KEY_RENDERING) == RenderingHints.VALUE_RENDER_DEFAULT
+                && g2d.getRenderingHint(RenderingHints.KEY_COLOR_RENDERING) == RenderingHints.VALUE_COLOR_RENDER_DEFAULT;
+    }
+
     public static void drawCircle(Graphics g, int x, int y, int radius, Color color) {
         g = getAliasedGraphics(g);
         Color shadowColor = new Color(color.getRed(), color.getGreen(), color.getBlue(), 65);
@@ -73,11 +134,192 @@ public class MaterialDrawingUtils {
 
     public static void drawString(JComponent c, Graphics g, String text, Rectangle textRect, int mnemonicIndex, int shiftOffset, Color color) {
         g = MaterialDrawingUtils.getAliasedGraphics(g);
-        FontMetrics fm = g.getFontMetrics(c.getFont());
-
         g.setColor(color);
-        BasicGraphicsUtils.drawStringUnderlineCharAt(g, text, mnemonicIndex,
-                textRect.x + shiftOffset,
-                textRect.y + fm.getAscent() + shiftOffset);
+        TextLayoutEntry entry = getTextLayout(g, c.getFont(), text);
+        if (entry == null) {
+            FontMetrics fm = g.getFontMetrics(c.getFont());
+            BasicGraphicsUtils.drawStringUnderlineCharAt(g, text, mnemonicIndex,
+                    textRect.x + shiftOffset,
+                    textRect.y + fm.getAscent() + shiftOffset);
+            return;
+        }
+        int x = textRect.x + shiftOffset;
+        int y = textRect.y + entry.ascent + shiftOffset;
+        ((Graphics2D) g).drawGlyphVector(entry.glyphs, x, y);
+        if (mnemonicIndex >= 0 && mnemonicIndex < entry.glyphs.getNumGlyphs()) {
+            double start = entry.glyphs.getGlyphPosition(mnemonicIndex).getX();
+            double end = entry.glyphs.getGlyphPosition(mnemonicIndex + 1).getX();
+            g.fillRect(x + (int) (start + 0.5), y + 1, (int) (end - start + 0.5), 1);
+        }
+    }
+
+    /**
+     * This method returns the width of the text with the font, it uses the same cache of drawString,
+     * so the text painted with drawString is measured only one time.
+     */
+    public static int getStringWidth(JComponent c, Graphics g, Font font, String text) {
+        TextLayoutEntry entry = getTextLayout(g, font, text);
+        if (entry == null) {
+            return c.getFontMetrics(font).stringWidth(text);
+        }
+        return entry.width;
+    }
+
+    public static void setMaxTextCacheSize(int maxTextCacheSize) {
+        if (maxTextCacheSize < 0) {
+            throw new IllegalArgumentException("The max cache size must be positive");
+        }
+        synchronized (TEXT_CACHE) {
+            TEXT_CACHE.maxSize = maxTextCacheSize;
+            TEXT_CACHE.trimToSize();
+        }
+    }
+
+    public static int getMaxTextCacheSize() {
+        synchronized (TEXT_CACHE) {
+            return TEXT_CACHE.maxSize;
+        }
+    }
+
+    public static int getTextCacheSize() {
+        synchronized (TEXT_CACHE) {
+            return TEXT_CACHE.size();
+        }
+    }
+
+    public static long getTextCacheHits() {
+        return textCacheHits.get();
+    }
+
+    public static long getTextCacheMisses() {
+        return textCacheMisses.get();
+    }
+
+    public static void clearTextCache() {
+        synchronized (TEXT_CACHE) {
+            TEXT_CACHE.clear();
+        }
+        textCacheHits.set(0);
+        textCacheMisses.set(0);
+    }
+
+    /**
+     * The glyphs depend on the font and on the FontRenderContext of the graphics (antialiasing, fractional metrics
+     * and transform), so both are inside the key. The text that needs a complex layout (bidi, ligatures) is not cached
+     * and it is painted by swing, the method returns null in this case.
+     */
+    private static TextLayoutEntry getTextLayout(Graphics g, Font font, String text) {
+        if (!(g instanceof Graphics2D) || font == null || text == null || text.isEmpty()) {
+            return null;
+        }
+        char[] chars = text.toCharArray();
+        if (requiresComplexLayout(chars)) {
+            return null;
+        }
+        FontRenderContext frc = ((Graphics2D) g).getFontRenderContext();
+        TextLayoutKey key = new TextLayoutKey(font, frc, text);
+        TextLayoutEntry entry;
+        synchronized (TEXT_CACHE) {
+            entry = TEXT_CACHE.get(key);
+        }
+        if (entry != null) {
+            textCacheHits.incrementAndGet();
+            return entry;
+        }
+        textCacheMisses.incrementAndGet();
+        // layoutGlyphVector applies the kerning of the font attributes, as the Graphics.drawString
+        GlyphVector glyphs = font.layoutGlyphVector(frc, chars, 0, chars.length, Font.LAYOUT_LEFT_TO_RIGHT);
+        entry = new TextLayoutEntry(glyphs, font.getLineMetrics(chars, 0, chars.length, frc));
+        synchronized (TEXT_CACHE) {
+            TEXT_CACHE.put(key, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * The Font.textRequiresLayout is available only from java 9, this check is more conservative:
+     * the combining marks and all the scripts after the Cyrillic (Hebrew, Arabic, Indic, ...) are painted by swing.
+     */
+    private static boolean requiresComplexLayout(char[] chars) {
+        for (char c : chars) {
+            if ((c >= '\u0300' && c < '\u0370') || c >= '\u0590') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class TextLayoutKey {
+
+        private final Font font;
+        private final FontRenderContext frc;
+        private final String text;
+
+        private TextLayoutKey(Font font, FontRenderContext frc, String text) {
+            this.font = font;
+            this.frc = frc;
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TextLayoutKey)) {
+                return false;
+            }
+            TextLayoutKey other = (TextLayoutKey) o;
+            return text.equals(other.text) && font.equals(other.font) && frc.equals(other.frc);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = font.hashCode();
+            result = 31 * result + frc.hashCode();
+            result = 31 * result + text.hashCode();
+            return result;
+        }
+    }
+
+    private static final class TextLayoutEntry {
+
+        private final GlyphVector glyphs;
+        private final int ascent;
+        private final int width;
+
+        private TextLayoutEntry(GlyphVector glyphs, LineMetrics metrics) {
+            this.glyphs = glyphs;
+            // FontMetrics.getAscent rounds the ascent in the same way
+            this.ascent = (int) (metrics.getAscent() + 0.95f);
+            // FontMetrics.stringWidth rounds the advance in the same way
+            this.width = (int) (0.5 + glyphs.getLogicalBounds().getWidth());
+        }
+    }
+
+    /**
+     * Map in access order, it removes the eldest text when the size is greater than maxSize.
+     * This map isn't thread safe, all access is synchronized on the map.
+     */
+    private static final class TextLayoutLRUMap extends LinkedHashMap<TextLayoutKey, TextLayoutEntry> {
+
+        private int maxSize = DEFAULT_MAX_TEXT_CACHE_SIZE;
+
+        private TextLayoutLRUMap() {
+            super(64, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TextLayoutKey, TextLayoutEntry> eldest) {
+            return size() > maxSize;
+        }
+
+        private void trimToSize() {
+            Iterator<TextLayoutKey> iterator = keySet().iterator();
+            while (size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
     }
 }
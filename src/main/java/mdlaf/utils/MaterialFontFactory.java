@@ -28,9 +28,11 @@ import java.awt.*;
 import java.awt.font.TextAttribute;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class managed the font inside the library and inside the Look and Feel, in fact
@@ -41,20 +43,18 @@ import java.util.Properties;
  */
 public class MaterialFontFactory {
 
-    private static final Map<TextAttribute, Object> fontSettings = new HashMap<>();
+    /**
+     * It is created only one time and never changed, so it can be read by several threads.
+     */
+    private static volatile Map<TextAttribute, Object> fontSettings;
 
     public static final MaterialTypeFont REGULAR = MaterialTypeFont.REGULAR;
     public static final MaterialTypeFont BOLD = MaterialTypeFont.BOLD;
     public static final MaterialTypeFont ITALIC = MaterialTypeFont.ITALIC;
     public static final MaterialTypeFont MEDIUM = MaterialTypeFont.MEDIUM;
 
-    private static MaterialFontFactory SINGLETON;
-
     public static MaterialFontFactory getInstance() {
-        if (SINGLETON == null) {
-            SINGLETON = new MaterialFontFactory();
-        }
-        return SINGLETON;
+        return SingletonHolder.SINGLETON;
     }
 
     /**
@@ -79,12 +79,17 @@ public class MaterialFontFactory {
      * see The file inside resources/config/fonts.properties
      */
     protected Properties properties = new Properties();
-    protected Map<String, FontUIResource> cacheFont = new HashMap<>();
+    protected Map<String, FontUIResource> cacheFont = new ConcurrentHashMap<>();
+    // One lock for each type, so different fonts are loaded in parallel
+    private final Map<MaterialTypeFont, Object> loadFontLocks = new EnumMap<>(MaterialTypeFont.class);
     protected float defaultSize = 14f;
     protected boolean withPersonalSettings = true;
 
 
     private MaterialFontFactory() {
+        for (MaterialTypeFont typeFont : MaterialTypeFont.values()) {
+            loadFontLocks.put(typeFont, new Object());
+        }
         try {
             loadOsProprieties();
         } catch (IOException e) {
@@ -129,12 +134,19 @@ public class MaterialFontFactory {
             throw new IllegalArgumentException("\n- Parameter type font null.\n");
         }
         String typeFontString = typeFont.toString();
-        if (cacheFont.containsKey(typeFontString)) {
-            return cacheFont.get(typeFontString);
+        FontUIResource font = cacheFont.get(typeFontString);
+        if (font != null) {
+            return font;
+        }
+        synchronized (loadFontLocks.get(typeFont)) {
+            // Two threads can ask the same font, only the first loads it and the second finds it inside the cache
+            font = cacheFont.get(typeFontString);
+            if (font == null) {
+                String proprieties = properties.getProperty(typeFontString);
+                font = getFontWithPath(proprieties);
+                cacheFont.put(typeFontString, font);
+            }
         }
-        String proprieties = properties.getProperty(typeFontString);
-        FontUIResource font = getFontWithPath(proprieties);
-        cacheFont.put(typeFontString, font);
         return font;
     }
 
@@ -177,14 +189,17 @@ public class MaterialFontFactory {
      */
     private FontUIResource loadFont(InputStream inputStream, boolean withPersonalSettings) {
         float size = withPersonalSettings ? this.doOptimizingDimensionFont(this.defaultSize) :  this.defaultSize;
-        if (withPersonalSettings && fontSettings.isEmpty()) {
-            fontSettings.put(TextAttribute.SIZE, size);
-            fontSettings.put(TextAttribute.KERNING, TextAttribute.KERNING_ON);
+        Map<TextAttribute, Object> settings = fontSettings;
+        if (withPersonalSettings && settings == null) {
+            settings = new HashMap<>();
+            settings.put(TextAttribute.SIZE, size);
+            settings.put(TextAttribute.KERNING, TextAttribute.KERNING_ON);
+            fontSettings = settings;
         }
         try {
             Font font;
             if (withPersonalSettings) {
-                font = Font.createFont(Font.TRUETYPE_FONT, inputStream).deriveFont(fontSettings);
+                font = Font.createFont(Font.TRUETYPE_FONT, inputStream).deriveFont(settings);
                 return new FontUIResource(font);
             }
             font = Font.createFont(Font.TRUETYPE_FONT, inputStream).deriveFont(size);
@@ -207,7 +222,9 @@ public class MaterialFontFactory {
             throw new IllegalArgumentException("\n- The dimension should be positive (>= 0)");
         }
         if (Utils.isJavaVersionUnderJava9()) {
-            float dimensionOptimized = 11f * Math.min(Toolkit.getDefaultToolkit().getScreenResolution(), 96) / 72;
+            // Without a screen the toolkit throws a HeadlessException, the font is rendered for 96 dpi.
+            int resolution = GraphicsEnvironment.isHeadless() ? 96 : Toolkit.getDefaultToolkit().getScreenResolution();
+            float dimensionOptimized = 11f * Math.min(resolution, 96) / 72;
             if(dimensionOptimized <= (dimension - 3)){
                 // ON OSX with display 4k in some cases the font dimension is equal to 5.
                 return (11f * 96) / 72;
@@ -251,4 +268,9 @@ public class MaterialFontFactory {
             return type;
         }
     }
+
+    // Initialized by the jvm at the first call of getInstance, also with several threads
+    private static class SingletonHolder {
+        private static final MaterialFontFactory SINGLETON = new MaterialFontFactory();
+    }
 }
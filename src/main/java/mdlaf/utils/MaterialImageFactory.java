@@ -35,8 +35,12 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author https://github.com/vincenzopalazzo
@@ -57,8 +61,6 @@ public class MaterialImageFactory{
         }
     }
 
-    private static MaterialImageFactory SINGLETON;
-
     private static final String PATH_RESOUSES = "/imgs/";
 
     // blank image
@@ -95,13 +97,21 @@ public class MaterialImageFactory{
     public static final String INFORMATION = "information";
 
 
-    private Map<String, IconUIResource> cacheImage = new HashMap<>();
+    /**
+     * Default max number of icons built from the icon font that are kept inside the cache.
+     */
+    public static final int DEFAULT_MAX_CACHE_SIZE = 512;
+
+    //The images loaded from the resources are a few, so this cache doesn't need a limit
+    private final ConcurrentMap<String, IconUIResource> cacheImage = new ConcurrentHashMap<>();
+    //All access to this map is synchronized on the map
+    private final IconLRUMap cacheIcons = new IconLRUMap();
+    private volatile int maxCacheSize = DEFAULT_MAX_CACHE_SIZE;
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
 
     public static MaterialImageFactory getInstance() {
-        if (SINGLETON == null) {
-            SINGLETON = new MaterialImageFactory();
-        }
-        return SINGLETON;
+        return SingletonHolder.SINGLETON;
     }
 
     private MaterialImageFactory() {
@@ -112,13 +122,15 @@ public class MaterialImageFactory{
             throw new IllegalArgumentException("Argument null");
         }
         String path = PATH_RESOUSES.trim() + key.trim() + ".png".trim();
-        if (cacheImage.containsKey(path)) {
-            return cacheImage.get(path);
+        IconUIResource icon = cacheImage.get(path);
+        if (icon != null) {
+            return icon;
         }
         try (InputStream inputStream = MaterialImageFactory.class.getResourceAsStream(path)) {
             BufferedImage image = ImageIO.read(inputStream);
-            cacheImage.put(path, new IconUIResource(new ImageIcon(image)));
-            return cacheImage.get(path);
+            icon = new IconUIResource(new ImageIcon(image));
+            IconUIResource oldIcon = cacheImage.putIfAbsent(path, icon);
+            return oldIcon != null ? oldIcon : icon;
         } catch (IOException e) {
             e.printStackTrace();
             throw new RuntimeException("Image " + path + " wasn't loaded");
@@ -134,6 +146,54 @@ public class MaterialImageFactory{
      * param color: Is the color of icons, by default this library used color = MaterialColors.BLACK;
      */
     public IconUIResource getImage(IMaterialIconCode iconCode, int dimension, Color color){
+        checkIconArguments(iconCode, dimension);
+        if(color == null){
+            color = MaterialColors.BLACK;
+        }
+        IconKey key = new IconKey(iconCode.getFontFamily(), iconCode.getUnicode(), dimension, color.getRGB());
+        IconUIResource icon;
+        synchronized (cacheIcons){
+            icon = cacheIcons.get(key);
+        }
+        if(icon != null){
+            cacheHits.incrementAndGet();
+            return icon;
+        }
+        cacheMisses.incrementAndGet();
+        //The icon is built outside the lock, if two threads build the same icon only the first one is cached
+        icon = new IconUIResource(new ImageIcon(IconFontSwing.buildImage(iconCode, dimension, color)));
+        synchronized (cacheIcons){
+            IconUIResource oldIcon = cacheIcons.get(key);
+            if(oldIcon != null){
+                return oldIcon;
+            }
+            cacheIcons.put(key, icon);
+        }
+        return icon;
+    }
+
+    /**
+     * This method returns an icon that is built with the method getImage only the first time that it is painted
+     * or measured, so the themes can install all icons without paying the rasterization of the icons that
+     * the application never shows.
+     * param iconCode
+     * param dimension: Is the dimension of icons, by default this library used dimension = 20
+     * param color: Is the color of icons, by default this library used color = MaterialColors.BLACK;
+     */
+    public IconUIResource getLazyImage(IMaterialIconCode iconCode, int dimension, Color color){
+        checkIconArguments(iconCode, dimension);
+        return new IconUIResource(new MaterialLazyIcon(iconCode, dimension, color));
+    }
+
+    public IconUIResource getLazyImage(IMaterialIconCode iconCode){
+        return getLazyImage(iconCode, 20, null);
+    }
+
+    public IconUIResource getLazyImage(IMaterialIconCode iconCode, Color color){
+        return getLazyImage(iconCode, 20, color);
+    }
+
+    private void checkIconArguments(IMaterialIconCode iconCode, int dimension){
         if(iconCode == null || dimension <= 0){
             String errorMessage = "Don't know motivation this exceptions";
             if(iconCode == null){
@@ -155,19 +215,6 @@ public class MaterialImageFactory{
             errorMessage += "\n\n";
             throw new IllegalArgumentException(errorMessage);
         }
-        String key;
-        if(color == null){
-            color = MaterialColors.BLACK;
-        }
-        key = iconCode.name() + dimension + color.toString();
-
-        if(cacheImage.containsKey(key)){
-            return cacheImage.get(key);
-        }
-
-        IconUIResource icon = new IconUIResource(new ImageIcon(IconFontSwing.buildImage(iconCode, dimension, color)));
-        cacheImage.put(key, icon);
-        return icon;
     }
 
     public IconUIResource getImage(IMaterialIconCode iconCode, int dimension){
@@ -181,4 +228,155 @@ public class MaterialImageFactory{
     public IconUIResource getImage(IMaterialIconCode iconCode, Color color){
         return getImage(iconCode, 20, color);
     }
+
+    /**
+     * Set the max number of icons built from the icon font that are kept inside the cache,
+     * when the cache is full the icon used less recently is removed.
+     */
+    public void setMaxCacheSize(int maxCacheSize){
+        if(maxCacheSize <= 0){
+            throw new IllegalArgumentException("The size of the cache should be greater than zero");
+        }
+        this.maxCacheSize = maxCacheSize;
+        synchronized (cacheIcons){
+            cacheIcons.trimToSize();
+        }
+    }
+
+    public int getMaxCacheSize(){
+        return maxCacheSize;
+    }
+
+    /**
+     * @return the number of icons built from the icon font inside the cache
+     */
+    public int getCacheSize(){
+        synchronized (cacheIcons){
+            return cacheIcons.size();
+        }
+    }
+
+    public long getCacheHits(){
+        return cacheHits.get();
+    }
+
+    public long getCacheMisses(){
+        return cacheMisses.get();
+    }
+
+    public void clearCache(){
+        synchronized (cacheIcons){
+            cacheIcons.clear();
+        }
+        cacheHits.set(0);
+        cacheMisses.set(0);
+    }
+
+    /**
+     * This icon is a proxy of the icon built by the method getImage, the icon is built
+     * the first time that a component asks its size or paints it.
+     */
+    private static class MaterialLazyIcon implements Icon {
+
+        private final IMaterialIconCode iconCode;
+        private final int dimension;
+        private final Color color;
+        private volatile Icon icon;
+
+        private MaterialLazyIcon(IMaterialIconCode iconCode, int dimension, Color color) {
+            this.iconCode = iconCode;
+            this.dimension = dimension;
+            this.color = color;
+        }
+
+        private Icon getIcon() {
+            if (icon == null) {
+                icon = MaterialImageFactory.getInstance().getImage(iconCode, dimension, color);
+            }
+            return icon;
+        }
+
+        @Override
+        public void paintIcon(Component c, Graphics g, int x, int y) {
+            getIcon().paintIcon(c, g, x, y);
+        }
+
+        @Override
+        public int getIconWidth() {
+            return getIcon().getIconWidth();
+        }
+
+        @Override
+        public int getIconHeight() {
+            return getIcon().getIconHeight();
+        }
+    }
+
+    /**
+     * The key of the icons built from the icon font, it doesn't contain strings built at each lookup.
+     */
+    private static final class IconKey {
+
+        private final String fontFamily;
+        private final char codePoint;
+        private final int dimension;
+        private final int argb;
+
+        private IconKey(String fontFamily, char codePoint, int dimension, int argb) {
+            this.fontFamily = fontFamily;
+            this.codePoint = codePoint;
+            this.dimension = dimension;
+            this.argb = argb;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IconKey)) {
+                return false;
+            }
+            IconKey iconKey = (IconKey) o;
+            return codePoint == iconKey.codePoint && dimension == iconKey.dimension && argb == iconKey.argb
+                    && (fontFamily == null ? iconKey.fontFamily == null : fontFamily.equals(iconKey.fontFamily));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = fontFamily != null ? fontFamily.hashCode() : 0;
+            result = 31 * result + codePoint;
+            result = 31 * result + dimension;
+            result = 31 * result + argb;
+            return result;
+        }
+    }
+
+    /**
+     * Map in access order, it removes the eldest icon when the size is greater than maxCacheSize.
+     * This map isn't thread safe, all access is synchronized on the map.
+     */
+    private class IconLRUMap extends LinkedHashMap<IconKey, IconUIResource> {
+
+        private IconLRUMap() {
+            super(64, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<IconKey, IconUIResource> eldest) {
+            return size() > maxCacheSize;
+        }
+
+        private void trimToSize() {
+            Iterator<IconKey> iterator = keySet().iterator();
+            while (size() > maxCacheSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class SingletonHolder {
+        private static final MaterialImageFactory SINGLETON = new MaterialImageFactory();
+    }
 }
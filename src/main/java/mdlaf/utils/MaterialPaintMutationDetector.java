@@ -0,0 +1,188 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.utils;
+
+import javax.swing.*;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This RepaintManager is a debug tool, it reports the components that require a repaint or a revalidate
+ * while Swing is painting. In common this happens when a UI calls a setter inside the paint method,
+ * the setter fires a property change and schedules an other paint, so the component is painted continuously.
+ *
+ * Each mutation is reported one time with the stack trace that generated it, the mutations can be read with
+ * getMutations() or printed with dump(). The detector can be installed with MaterialPaintMutationDetector.install()
+ * or with the system property -Dmdlaf.debug.paintMutations=true before the creation of the MaterialLookAndFeel,
+ * with the system property the mutations are also printed on the standard error when they are reported.
+ *
+ * Only the paints of the RepaintManager are watched, JComponent.paintImmediately (used for instance by the
+ * scroll with blit) paints with a method of the RepaintManager that is not public, so a mutation inside it is not
+ * detected.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public class MaterialPaintMutationDetector extends RepaintManager {
+
+    public static final String DEBUG_PROPERTY = "mdlaf.debug.paintMutations";
+
+    public static MaterialPaintMutationDetector install() {
+        RepaintManager current = RepaintManager.currentManager(null);
+        if (current instanceof MaterialPaintMutationDetector) {
+            return (MaterialPaintMutationDetector) current;
+        }
+        MaterialPaintMutationDetector detector = new MaterialPaintMutationDetector();
+        RepaintManager.setCurrentManager(detector);
+        return detector;
+    }
+
+    public static void installIfEnabled() {
+        if (Boolean.getBoolean(DEBUG_PROPERTY)) {
+            install().setOutput(System.err);
+        }
+    }
+
+    public static void uninstall() {
+        if (RepaintManager.currentManager(null) instanceof MaterialPaintMutationDetector) {
+            // with null swing restores the default RepaintManager
+            RepaintManager.setCurrentManager(null);
+        }
+    }
+
+    private final Set<String> reported = new HashSet<>();
+    private final List<Throwable> reportedMutations = new ArrayList<>();
+    private volatile PrintStream output;
+    private int paintDepth;
+    private long mutations;
+
+    protected MaterialPaintMutationDetector() {
+        super();
+    }
+
+    @Override
+    public void paintDirtyRegions() {
+        paintDepth++;
+        try {
+            super.paintDirtyRegions();
+        } finally {
+            paintDepth--;
+        }
+    }
+
+    @Override
+    public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+        checkMutation(c, "repaint");
+        super.addDirtyRegion(c, x, y, w, h);
+    }
+
+    @Override
+    public synchronized void addInvalidComponent(JComponent invalidComponent) {
+        checkMutation(invalidComponent, "revalidate");
+        super.addInvalidComponent(invalidComponent);
+    }
+
+    public boolean isPainting() {
+        return paintDepth > 0;
+    }
+
+    /**
+     * @return the number of repaint and revalidate required while Swing was painting, also the mutations not reported
+     * because already reported.
+     */
+    public long getMutationCount() {
+        return mutations;
+    }
+
+    /**
+     * @return the mutations reported, from the oldest
+     */
+    public List<Throwable> getMutations() {
+        // the RepaintManager locks itself, the list has its lock
+        synchronized (reportedMutations) {
+            return new ArrayList<>(reportedMutations);
+        }
+    }
+
+    public void clear() {
+        synchronized (reportedMutations) {
+            reportedMutations.clear();
+        }
+    }
+
+    public void dump(PrintStream out) {
+        for (Throwable mutation : getMutations()) {
+            mutation.printStackTrace(out);
+        }
+    }
+
+    /**
+     * @param output the stream where the mutations are printed when they are reported, or null to only collect them
+     */
+    public void setOutput(PrintStream output) {
+        this.output = output;
+    }
+
+    protected void checkMutation(JComponent component, String request) {
+        if (component == null || paintDepth == 0 || !SwingUtilities.isEventDispatchThread()) {
+            return;
+        }
+        mutations++;
+        Throwable trace = new Throwable(request + " of " + component.getClass().getName() + " required while painting");
+        if (reported.add(component.getClass().getName() + "@" + findOrigin(trace.getStackTrace()))) {
+            reportMutation(component, trace);
+        }
+    }
+
+    /**
+     * Called on the event dispatch thread, by default the mutation is added to the mutations
+     * and printed on the output when it is set.
+     */
+    protected void reportMutation(JComponent component, Throwable trace) {
+        synchronized (reportedMutations) {
+            reportedMutations.add(trace);
+        }
+        PrintStream out = output;
+        if (out != null) {
+            trace.printStackTrace(out);
+        }
+    }
+
+    /**
+     * The first frame out of the swing and awt code is the code that calls the setter.
+     */
+    private static String findOrigin(StackTraceElement[] stackTrace) {
+        for (StackTraceElement element : stackTrace) {
+            String className = element.getClassName();
+            if (className.equals(MaterialPaintMutationDetector.class.getName())
+                    || className.startsWith("javax.swing.") || className.startsWith("java.awt.")) {
+                continue;
+            }
+            return element.toString();
+        }
+        return "";
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.utils;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * The paint statistics of one UI class collected by MaterialPaintStatistics.
+ * The times contain the components painted by the UI, for instance the time of a MaterialTableUI
+ * contains the time of the cell renderers, but not the children of the component, they are painted
+ * by JComponent.paintChildren after ComponentUI.update.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public final class MaterialPaintRecord {
+
+    private final String uiClassName;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long allocatedBytes;
+
+    @ConstructorProperties({"uiClassName", "count", "totalNanos", "maxNanos", "allocatedBytes"})
+    public MaterialPaintRecord(String uiClassName, long count, long totalNanos, long maxNanos, long allocatedBytes) {
+        this.uiClassName = uiClassName;
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public String getUiClassName() {
+        return uiClassName;
+    }
+
+    /**
+     * @return the number of calls to ComponentUI.update
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getAverageMillis() {
+        return count == 0 ? 0 : totalNanos / (count * 1_000_000d);
+    }
+
+    /**
+     * @return the bytes allocated by the thread while painting, -1 when the JVM can not measure them
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * The record of the paints done after the earlier record was taken, so two snapshots
+     * taken one minute apart give the average of the last minute.
+     * The max can not be subtracted, the result keeps the max of this record.
+     */
+    public MaterialPaintRecord minus(MaterialPaintRecord earlier) {
+        if (earlier == null) {
+            return this;
+        }
+        if (!uiClassName.equals(earlier.uiClassName)) {
+            throw new IllegalArgumentException("The records are of different UI classes: " + uiClassName
+                    + " and " + earlier.uiClassName);
+        }
+        long bytes = allocatedBytes < 0 || earlier.allocatedBytes < 0 ? -1 : allocatedBytes - earlier.allocatedBytes;
+        return new MaterialPaintRecord(uiClassName, count - earlier.count, totalNanos - earlier.totalNanos,
+                maxNanos, bytes);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s.paint averaged %.3f ms over %d calls (max %.3f ms, allocated %d bytes)",
+                uiClassName.substring(uiClassName.lastIndexOf('.') + 1), getAverageMillis(), count,
+                maxNanos / 1_000_000d, allocatedBytes);
+    }
+}
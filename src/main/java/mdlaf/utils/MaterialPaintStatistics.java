@@ -0,0 +1,306 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.utils;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.swing.plaf.ComponentUI;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class is a debug tool, it collects for each UI class the number of paints, the time spent inside
+ * ComponentUI.update and the bytes allocated by the painting thread (when the JVM supports
+ * com.sun.management.ThreadMXBean).
+ *
+ * The statistics are disabled by default, they can be enabled with MaterialPaintStatistics.install() or with the system
+ * property -Dmdlaf.debug.paintStatistics=true before the creation of the MaterialLookAndFeel.
+ * When they are enabled the values are available with snapshot() and with the MXBean
+ * {@value #OBJECT_NAME} on the platform MBeanServer, for example from JConsole.
+ *
+ * The Material UIs call beginPaint() and endPaint() inside the update method, when the statistics are disabled
+ * the cost of the calls is the read of a volatile field.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public final class MaterialPaintStatistics {
+
+    public static final String DEBUG_PROPERTY = "mdlaf.debug.paintStatistics";
+    public static final String OBJECT_NAME = "mdlaf:type=MaterialPaintStatistics";
+
+    private static final long NOT_MEASURED = Long.MIN_VALUE;
+    private static final boolean ALLOCATION_SUPPORTED = isAllocationCounterAvailable();
+    private static final ConcurrentHashMap<Class<?>, PaintCounter> COUNTERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<AllocationStack> ALLOCATIONS = new ThreadLocal<AllocationStack>() {
+        @Override
+        protected AllocationStack initialValue() {
+            return new AllocationStack();
+        }
+    };
+    private static final Management MANAGEMENT = new Management();
+
+    private static volatile boolean enabled;
+
+    private MaterialPaintStatistics() {
+    }
+
+    /**
+     * Enables the statistics and registers the MXBean, if the platform MBeanServer is not available
+     * the statistics are collected anyway and they can be read with snapshot().
+     */
+    public static synchronized void install() {
+        enabled = true;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(MANAGEMENT, name);
+            }
+        } catch (JMException | SecurityException e) {
+            // the statistics are still available with snapshot()
+        }
+    }
+
+    public static void installIfEnabled() {
+        if (Boolean.getBoolean(DEBUG_PROPERTY)) {
+            install();
+        }
+    }
+
+    /**
+     * Disables the statistics and unregisters the MXBean, the values collected are kept until reset().
+     */
+    public static synchronized void uninstall() {
+        enabled = false;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException | SecurityException e) {
+            // nothing registered
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        MaterialPaintStatistics.enabled = enabled;
+    }
+
+    public static boolean isAllocationSupported() {
+        return ALLOCATION_SUPPORTED;
+    }
+
+    /**
+     * @return the value to pass to endPaint, the paint is not measured when the statistics are disabled.
+     */
+    public static long beginPaint() {
+        if (!enabled) {
+            return NOT_MEASURED;
+        }
+        if (ALLOCATION_SUPPORTED) {
+            ALLOCATIONS.get().push(AllocationCounter.currentThreadAllocatedBytes());
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the paint of the ui started with beginPaint, it must be called in a finally block
+     * because the allocations of the nested paints are kept in a stack of the thread.
+     */
+    public static void endPaint(ComponentUI ui, long start) {
+        if (start == NOT_MEASURED) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = -1;
+        if (ALLOCATION_SUPPORTED) {
+            allocated = AllocationCounter.currentThreadAllocatedBytes() - ALLOCATIONS.get().pop();
+        }
+        getCounter(ui.getClass()).add(elapsed, allocated);
+    }
+
+    /**
+     * @return the statistics of each UI class painted after the last reset,
+     * sorted by the total time of paint from the slowest UI class.
+     */
+    public static Map<String, MaterialPaintRecord> snapshot() {
+        List<MaterialPaintRecord> records = new ArrayList<>();
+        for (Map.Entry<Class<?>, PaintCounter> entry : COUNTERS.entrySet()) {
+            records.add(entry.getValue().toRecord(entry.getKey().getName()));
+        }
+        Collections.sort(records, new Comparator<MaterialPaintRecord>() {
+            @Override
+            public int compare(MaterialPaintRecord o1, MaterialPaintRecord o2) {
+                return Long.compare(o2.getTotalNanos(), o1.getTotalNanos());
+            }
+        });
+        Map<String, MaterialPaintRecord> snapshot = new LinkedHashMap<>();
+        for (MaterialPaintRecord record : records) {
+            snapshot.put(record.getUiClassName(), record);
+        }
+        return snapshot;
+    }
+
+    public static void reset() {
+        COUNTERS.clear();
+    }
+
+    private static PaintCounter getCounter(Class<?> uiClass) {
+        PaintCounter counter = COUNTERS.get(uiClass);
+        if (counter == null) {
+            counter = new PaintCounter();
+            PaintCounter previous = COUNTERS.putIfAbsent(uiClass, counter);
+            if (previous != null) {
+                counter = previous;
+            }
+        }
+        return counter;
+    }
+
+    private static boolean isAllocationCounterAvailable() {
+        try {
+            return AllocationCounter.isSupported();
+        } catch (LinkageError e) {
+            // the JVM doesn't have com.sun.management
+            return false;
+        }
+    }
+
+    private static final class PaintCounter {
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong allocatedBytes = new AtomicLong();
+
+        void add(long nanos, long allocated) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            long max = maxNanos.get();
+            while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+                max = maxNanos.get();
+            }
+            if (allocated > 0) {
+                allocatedBytes.addAndGet(allocated);
+            }
+        }
+
+        MaterialPaintRecord toRecord(String uiClassName) {
+            return new MaterialPaintRecord(uiClassName, count.get(), totalNanos.get(), maxNanos.get(),
+                    ALLOCATION_SUPPORTED ? allocatedBytes.get() : -1);
+        }
+    }
+
+    /**
+     * The allocated bytes when the paints of the thread started, the paints are nested
+     * because a component paints its children.
+     */
+    private static final class AllocationStack {
+
+        private long[] values = new long[16];
+        private int size;
+
+        void push(long value) {
+            if (size == values.length) {
+                long[] grown = new long[size * 2];
+                System.arraycopy(values, 0, grown, 0, size);
+                values = grown;
+            }
+            values[size++] = value;
+        }
+
+        long pop() {
+            return size == 0 ? 0 : values[--size];
+        }
+    }
+
+    /**
+     * This class is loaded only if com.sun.management is available.
+     */
+    private static final class AllocationCounter {
+
+        private static final com.sun.management.ThreadMXBean THREADS = findThreadMXBean();
+
+        private static com.sun.management.ThreadMXBean findThreadMXBean() {
+            java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+                return null;
+            }
+            com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+            if (!sunThreads.isThreadAllocatedMemorySupported() || !sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return null;
+            }
+            return sunThreads;
+        }
+
+        static boolean isSupported() {
+            return THREADS != null;
+        }
+
+        static long currentThreadAllocatedBytes() {
+            return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
+
+    private static final class Management implements MaterialPaintStatisticsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return MaterialPaintStatistics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            MaterialPaintStatistics.setEnabled(enabled);
+        }
+
+        @Override
+        public boolean isAllocationSupported() {
+            return MaterialPaintStatistics.isAllocationSupported();
+        }
+
+        @Override
+        public List<MaterialPaintRecord> getRecords() {
+            return new ArrayList<>(snapshot().values());
+        }
+
+        @Override
+        public void reset() {
+            MaterialPaintStatistics.reset();
+        }
+    }
+}
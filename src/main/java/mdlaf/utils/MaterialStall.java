@@ -0,0 +1,111 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.utils;
+
+import java.io.PrintStream;
+
+/**
+ * An event that kept the event dispatch thread busy longer than the budget of the MaterialStallWatchdog.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public final class MaterialStall {
+
+    private final long timeMillis;
+    private final long durationNanos;
+    private final String event;
+    private final String componentClassName;
+    private final String uiClassName;
+    private final StackTraceElement materialFrame;
+    private final StackTraceElement[] stackTrace;
+
+    MaterialStall(long timeMillis, long durationNanos, String event, String componentClassName,
+                  String uiClassName, StackTraceElement materialFrame, StackTraceElement[] stackTrace) {
+        this.timeMillis = timeMillis;
+        this.durationNanos = durationNanos;
+        this.event = event;
+        this.componentClassName = componentClassName;
+        this.uiClassName = uiClassName;
+        this.materialFrame = materialFrame;
+        this.stackTrace = stackTrace;
+    }
+
+    /**
+     * @return the time, from System.currentTimeMillis, when the dispatch of the event started
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    /**
+     * @return the class of the component that received the event, null if the event doesn't have a component
+     */
+    public String getComponentClassName() {
+        return componentClassName;
+    }
+
+    /**
+     * @return the class of the UI installed on the component, null if the component is not a JComponent
+     */
+    public String getUiClassName() {
+        return uiClassName;
+    }
+
+    /**
+     * @return the first frame of the stack inside the material code, null if the stall wasn't inside this library
+     * or the stack was not captured
+     */
+    public StackTraceElement getMaterialFrame() {
+        return materialFrame;
+    }
+
+    /**
+     * @return the stack of the event dispatch thread when the budget was exceeded, it is empty when the event
+     * finished before the watchdog sampled it
+     */
+    public StackTraceElement[] getStackTrace() {
+        return stackTrace.clone();
+    }
+
+    public void printStackTrace(PrintStream out) {
+        out.println(this);
+        for (StackTraceElement element : stackTrace) {
+            out.println("\tat " + element);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Stall of %.1f ms dispatching %s on %s with %s%s", durationNanos / 1_000_000d, event,
+                componentClassName, uiClassName, materialFrame == null ? "" : " at " + materialFrame);
+    }
+}
@@ -0,0 +1,334 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.utils;
+
+import javax.swing.*;
+import javax.swing.plaf.ComponentUI;
+import java.awt.*;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This EventQueue is a debug tool, it reports the events that keep the event dispatch thread busy longer
+ * than a budget, for instance a resize of the window or a change of theme that freezes the application.
+ *
+ * A daemon thread samples the dispatch, when an event exceeds the budget the stack of the event dispatch thread
+ * is captured. At the end of the dispatch the stall is tagged with the component that received the event,
+ * with its UI and with the first frame of the stack inside this library, and it is kept in a ring buffer
+ * that can be read with getStalls() or printed with dump().
+ *
+ * The watchdog can be installed with MaterialStallWatchdog.install(budgetMillis) or with the system
+ * property -Dmdlaf.debug.edtWatchdog=true (and -Dmdlaf.debug.edtWatchdog.budget=millis) before the creation
+ * of the MaterialLookAndFeel.
+ * The events dispatched by a secondary loop, like the loop of a modal dialog, are measured one by one,
+ * the event that opened the loop is not reported.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public class MaterialStallWatchdog extends EventQueue {
+
+    public static final String DEBUG_PROPERTY = "mdlaf.debug.edtWatchdog";
+    public static final String BUDGET_PROPERTY = "mdlaf.debug.edtWatchdog.budget";
+    public static final long DEFAULT_BUDGET_MILLIS = 100;
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private static MaterialStallWatchdog installed;
+
+    public static MaterialStallWatchdog install(long budgetMillis) {
+        return install(budgetMillis, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * The watchdog is pushed on the top of the EventQueue stack, the queues pushed after it must be
+     * removed before uninstall.
+     *
+     * @param budgetMillis the time that an event can keep the event dispatch thread busy before it is reported
+     * @param capacity the number of stalls kept, when the buffer is full the oldest stall is removed
+     * @return the watchdog installed, if a watchdog is already installed only its budget is changed
+     */
+    public static synchronized MaterialStallWatchdog install(long budgetMillis, int capacity) {
+        if (installed != null) {
+            installed.setBudgetMillis(budgetMillis);
+            return installed;
+        }
+        MaterialStallWatchdog watchdog = new MaterialStallWatchdog(budgetMillis, capacity);
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(watchdog);
+        watchdog.startSampler();
+        installed = watchdog;
+        return watchdog;
+    }
+
+    public static void installIfEnabled() {
+        if (Boolean.getBoolean(DEBUG_PROPERTY)) {
+            install(Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET_MILLIS));
+        }
+    }
+
+    /**
+     * EventQueue.pop removes the top of the stack, so the watchdog is removed only when it is on the top.
+     *
+     * @return false if an other EventQueue was pushed after the watchdog, in this case the watchdog stays installed
+     */
+    public static synchronized boolean uninstall() {
+        if (installed == null) {
+            return true;
+        }
+        if (Toolkit.getDefaultToolkit().getSystemEventQueue() != installed) {
+            return false;
+        }
+        installed.stopSampler();
+        installed.pop();
+        installed = null;
+        return true;
+    }
+
+    /**
+     * @return the watchdog installed, or null
+     */
+    public static synchronized MaterialStallWatchdog getInstalled() {
+        return installed;
+    }
+
+    private final MaterialStall[] stalls;
+    private int nextStall;
+    private long stallCount;
+    private volatile long budgetNanos;
+
+    // written by the event dispatch thread and read by the sampler
+    private volatile Thread dispatchThread;
+    private volatile long dispatchId;
+    private volatile long dispatchStart;
+    private long dispatchCount;
+
+    private final Object sampleLock = new Object();
+    private long sampledId;
+    private StackTraceElement[] sampledStack;
+    private Thread sampler;
+    private volatile boolean sampling;
+
+    protected MaterialStallWatchdog(long budgetMillis, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        this.stalls = new MaterialStall[capacity];
+        setBudgetMillis(budgetMillis);
+    }
+
+    public long getBudgetMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(budgetNanos);
+    }
+
+    public void setBudgetMillis(long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("The budget must be positive");
+        }
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+
+    /**
+     * @return the stalls in the buffer, from the oldest
+     */
+    public synchronized List<MaterialStall> getStalls() {
+        List<MaterialStall> result = new ArrayList<>(stalls.length);
+        for (int i = 0; i < stalls.length; i++) {
+            MaterialStall stall = stalls[(nextStall + i) % stalls.length];
+            if (stall != null) {
+                result.add(stall);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of stalls reported, also the stalls removed from the buffer
+     */
+    public synchronized long getStallCount() {
+        return stallCount;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(stalls, null);
+        nextStall = 0;
+    }
+
+    public void dump(PrintStream out) {
+        for (MaterialStall stall : getStalls()) {
+            stall.printStackTrace(out);
+        }
+    }
+
+    @Override
+    protected void dispatchEvent(AWTEvent event) {
+        long id = ++dispatchCount;
+        long start = System.nanoTime();
+        dispatchThread = Thread.currentThread();
+        dispatchId = id;
+        dispatchStart = start;
+        try {
+            super.dispatchEvent(event);
+        } finally {
+            long duration = System.nanoTime() - start;
+            // a nested dispatch returns to an event that runs a secondary loop, it is not sampled anymore
+            dispatchStart = 0;
+            if (duration > budgetNanos) {
+                StackTraceElement[] stack = takeSampledStack(id);
+                // when the event runs a secondary loop the time is spent by the events of the loop
+                if (dispatchCount == id) {
+                    reportStall(event, duration, stack);
+                }
+            }
+        }
+    }
+
+    /**
+     * Called on the event dispatch thread, by default the stall is added to the ring buffer.
+     */
+    protected void reportStall(AWTEvent event, long durationNanos, StackTraceElement[] stack) {
+        Component component = findComponent(event);
+        MaterialStall stall = new MaterialStall(
+                System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(durationNanos), durationNanos,
+                event.getClass().getSimpleName() + "[" + event.paramString() + "]",
+                component == null ? null : component.getClass().getName(),
+                findUIClassName(component), findMaterialFrame(stack), stack);
+        synchronized (this) {
+            stalls[nextStall] = stall;
+            nextStall = (nextStall + 1) % stalls.length;
+            stallCount++;
+        }
+    }
+
+    private StackTraceElement[] takeSampledStack(long id) {
+        synchronized (sampleLock) {
+            StackTraceElement[] stack = sampledId == id ? sampledStack : null;
+            sampledStack = null;
+            return stack == null ? new StackTraceElement[0] : stack;
+        }
+    }
+
+    private void startSampler() {
+        sampling = true;
+        sampler = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                sample();
+            }
+        }, "MaterialStallWatchdog");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    private void stopSampler() {
+        sampling = false;
+        sampler.interrupt();
+    }
+
+    private void sample() {
+        long lastSampledId = 0;
+        while (sampling) {
+            try {
+                Thread.sleep(Math.max(1, TimeUnit.NANOSECONDS.toMillis(budgetNanos) / 2));
+            } catch (InterruptedException e) {
+                return;
+            }
+            long id = dispatchId;
+            long start = dispatchStart;
+            Thread thread = dispatchThread;
+            if (start == 0 || id == lastSampledId || System.nanoTime() - start <= budgetNanos) {
+                continue;
+            }
+            StackTraceElement[] stack = thread.getStackTrace();
+            synchronized (sampleLock) {
+                // the event could be finished while the stack was captured
+                if (dispatchId == id && dispatchStart == start) {
+                    sampledId = id;
+                    sampledStack = stack;
+                    lastSampledId = id;
+                }
+            }
+        }
+    }
+
+    /**
+     * The component of a mouse event is the deepest component under the mouse, the component of a key event
+     * is the focus owner.
+     */
+    private static Component findComponent(AWTEvent event) {
+        Component component = null;
+        if (event instanceof KeyEvent) {
+            component = KeyboardFocusManager.getCurrentKeyboardFocusManager().getFocusOwner();
+        } else if (event instanceof MouseEvent) {
+            MouseEvent mouseEvent = (MouseEvent) event;
+            component = mouseEvent.getComponent();
+            if (component instanceof Container) {
+                Component deepest = SwingUtilities.getDeepestComponentAt(component, mouseEvent.getX(), mouseEvent.getY());
+                if (deepest != null) {
+                    component = deepest;
+                }
+            }
+        } else if (event.getSource() instanceof Component) {
+            component = (Component) event.getSource();
+        }
+        if (component instanceof RootPaneContainer) {
+            component = ((RootPaneContainer) component).getRootPane();
+        }
+        // a component without a material UI, like the layered pane, is inside a component with a material UI
+        for (Component parent = component; parent != null; parent = parent.getParent()) {
+            String uiClassName = findUIClassName(parent);
+            if (uiClassName != null && uiClassName.startsWith("mdlaf.")) {
+                return parent;
+            }
+        }
+        return component;
+    }
+
+    private static String findUIClassName(Component component) {
+        if (!(component instanceof JComponent)) {
+            return null;
+        }
+        try {
+            // JComponent.getUI is public only from java 9, but each swing component has a public getUI
+            Method getUI = component.getClass().getMethod("getUI");
+            Object ui = getUI.invoke(component);
+            return ui instanceof ComponentUI ? ui.getClass().getName() : null;
+        } catch (ReflectiveOperationException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static StackTraceElement findMaterialFrame(StackTraceElement[] stack) {
+        for (StackTraceElement element : stack) {
+            String className = element.getClassName();
+            if (className.startsWith("mdlaf.") && !className.startsWith(MaterialStallWatchdog.class.getName())) {
+                return element;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,298 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package mdlaf.utils;
+
+import mdlaf.themes.MaterialThemeRefreshable;
+
+import javax.swing.*;
+import javax.swing.border.Border;
+import javax.swing.plaf.ComponentUI;
+import javax.swing.plaf.UIResource;
+import javax.swing.table.JTableHeader;
+import javax.swing.table.TableCellEditor;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumn;
+import javax.swing.text.JTextComponent;
+import javax.swing.tree.TreeCellEditor;
+import java.awt.*;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * This class changes the style of a component tree after that the values of a new theme are inside the UIManager,
+ * without install again the UIs, it is used by MaterialLookAndFeel.swapTheme.
+ *
+ * For each component with a UI that implements MaterialThemeRefreshable the background, the foreground, the font
+ * and the border that are UIResource are replaced with the values of the UIManager, after that the UI reads again
+ * the values of the theme that it keeps. All the other UIs, like the Basic UIs, the UIs of other libraries and the
+ * subclasses of the Material UIs outside this library that do not override refreshTheme, can keep any value
+ * of the theme, so they are installed again with updateUI, like SwingUtilities.updateComponentTreeUI does,
+ * and the children are visited after them. Also the components without a public getUI method are updated
+ * with updateUI.
+ * The renderers and the editors are not inside the component tree, so they are installed again with
+ * SwingUtilities.updateComponentTreeUI, like JTable, JList and JTree do inside the updateUI method.
+ *
+ * The methods must be called on the event dispatch thread.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public final class MaterialThemeRefresher {
+
+    private static final String MATERIAL_PACKAGE = "mdlaf.";
+    private static final String REFRESH_METHOD = "refreshTheme";
+    // The classes that have a default renderer or editor inside the JTable created by the JTable or by the MaterialTableUI
+    private static final Class<?>[] TABLE_CELL_CLASSES = {
+            Object.class, String.class, Number.class, Integer.class, Long.class, Float.class, Double.class,
+            Boolean.class, Date.class, Icon.class, ImageIcon.class
+    };
+    // Accessed only by the EDT, the null value is a component without the getUI method
+    private static final Map<Class<?>, Method> UI_GETTERS = new WeakHashMap<>();
+    private static final Map<Class<?>, Boolean> REFRESHABLE_UIS = new WeakHashMap<>();
+
+    private final Set<Component> visited = Collections.newSetFromMap(new IdentityHashMap<Component, Boolean>());
+    // The values of the UIManager do not change during a refresh, so they are read once for each uiClassID
+    private final Map<String, Object[]> defaults = new HashMap<>();
+
+    private MaterialThemeRefresher() {
+    }
+
+    public static void refreshComponentTree(Component component) {
+        if (component == null) {
+            throw new IllegalArgumentException("Component null");
+        }
+        new MaterialThemeRefresher().refresh(component);
+    }
+
+    /**
+     * Replaces the background, the foreground, the font and the border of the component with the values
+     * of the UIManager with the prefix, only if the component has UIResource values and the UIManager has a value,
+     * like LookAndFeel.installColorsAndFont and LookAndFeel.installBorder do.
+     */
+    public static void refreshDefaults(JComponent component, String prefix) {
+        refreshDefaults(component, readDefaults(prefix));
+    }
+
+    /**
+     * Replaces the colors of the text component that are installed by BasicTextUI.installDefaults, the caret and
+     * the highlighter are kept.
+     */
+    public static void refreshTextColors(JTextComponent component, String prefix) {
+        if (component.getCaretColor() == null || component.getCaretColor() instanceof UIResource) {
+            component.setCaretColor(UIManager.getColor(prefix + ".caretForeground"));
+        }
+        if (component.getSelectionColor() == null || component.getSelectionColor() instanceof UIResource) {
+            component.setSelectionColor(UIManager.getColor(prefix + ".selectionBackground"));
+        }
+        if (component.getSelectedTextColor() == null || component.getSelectedTextColor() instanceof UIResource) {
+            component.setSelectedTextColor(UIManager.getColor(prefix + ".selectionForeground"));
+        }
+        if (component.getDisabledTextColor() == null || component.getDisabledTextColor() instanceof UIResource) {
+            component.setDisabledTextColor(UIManager.getColor(prefix + ".inactiveForeground"));
+        }
+    }
+
+    private static Object[] readDefaults(String prefix) {
+        return new Object[]{
+                UIManager.getColor(prefix + ".background"), UIManager.getColor(prefix + ".foreground"),
+                UIManager.getFont(prefix + ".font"), UIManager.getBorder(prefix + ".border")
+        };
+    }
+
+    private static void refreshDefaults(JComponent component, Object[] defaults) {
+        Color background = (Color) defaults[0];
+        if (background != null && component.isBackgroundSet() && component.getBackground() instanceof UIResource) {
+            component.setBackground(background);
+        }
+        Color foreground = (Color) defaults[1];
+        if (foreground != null && component.isForegroundSet() && component.getForeground() instanceof UIResource) {
+            component.setForeground(foreground);
+        }
+        Font font = (Font) defaults[2];
+        if (font != null && component.isFontSet() && component.getFont() instanceof UIResource) {
+            component.setFont(font);
+        }
+        Border border = (Border) defaults[3];
+        if (border != null && component.getBorder() instanceof UIResource) {
+            component.setBorder(border);
+        }
+    }
+
+    private void refresh(Component component) {
+        if (component == null || !visited.add(component)) {
+            return;
+        }
+        if (component instanceof JComponent) {
+            JComponent c = (JComponent) component;
+            ComponentUI ui = getUI(c);
+            if (ui != null && isRefreshable(ui)) {
+                refreshDefaults(c, getDefaults(c.getUIClassID()));
+                // The renderers are refreshed before the UI, because the UI can measure them
+                refreshOutsideComponents(c);
+                ((MaterialThemeRefreshable) ui).refreshTheme(c);
+            } else {
+                // Like SwingUtilities.updateComponentTreeUI, the UI is installed again before the children are visited,
+                // also a component without a public getUI can override updateUI to read the UIManager
+                c.updateUI();
+                refreshOutsideComponents(c);
+            }
+        }
+        if (component instanceof Container) {
+            Component[] children = ((Container) component).getComponents();
+            for (Component child : children) {
+                refresh(child);
+            }
+        }
+    }
+
+    private void refreshOutsideComponents(JComponent c) {
+        refresh(c.getComponentPopupMenu());
+        if (c instanceof JMenu) {
+            refresh(((JMenu) c).getPopupMenu());
+        } else if (c instanceof JTable) {
+            JTable table = (JTable) c;
+            for (Class<?> cellClass : TABLE_CELL_CLASSES) {
+                updateRenderer(table.getDefaultRenderer(cellClass));
+                updateEditor(table.getDefaultEditor(cellClass));
+            }
+            Enumeration<TableColumn> columns = table.getColumnModel().getColumns();
+            while (columns.hasMoreElements()) {
+                TableColumn column = columns.nextElement();
+                updateRenderer(column.getCellRenderer());
+                updateEditor(column.getCellEditor());
+            }
+        } else if (c instanceof JTableHeader) {
+            JTableHeader header = (JTableHeader) c;
+            updateRenderer(header.getDefaultRenderer());
+            Enumeration<TableColumn> columns = header.getColumnModel().getColumns();
+            while (columns.hasMoreElements()) {
+                updateRenderer(columns.nextElement().getHeaderRenderer());
+            }
+        } else if (c instanceof JList) {
+            updateRenderer(((JList<?>) c).getCellRenderer());
+        } else if (c instanceof JTree) {
+            JTree tree = (JTree) c;
+            updateRenderer(tree.getCellRenderer());
+            updateEditor(tree.getCellEditor());
+        } else if (c instanceof JComboBox) {
+            updateRenderer(((JComboBox<?>) c).getRenderer());
+        } else if (c instanceof JSlider) {
+            // Like JSlider.updateLabelUIs, the labels are painted by the slider but they are not its children
+            Dictionary<?, ?> labels = ((JSlider) c).getLabelTable();
+            if (labels != null) {
+                Enumeration<?> elements = labels.elements();
+                while (elements.hasMoreElements()) {
+                    Object label = elements.nextElement();
+                    if (label instanceof JComponent) {
+                        refresh((JComponent) label);
+                        ((JComponent) label).setSize(((JComponent) label).getPreferredSize());
+                    }
+                }
+            }
+        }
+    }
+
+    private void updateRenderer(Object renderer) {
+        if (renderer instanceof Component && visited.add((Component) renderer)) {
+            SwingUtilities.updateComponentTreeUI((Component) renderer);
+        }
+    }
+
+    private void updateEditor(Object editor) {
+        if (editor instanceof DefaultCellEditor) {
+            updateRenderer(((DefaultCellEditor) editor).getComponent());
+        } else if (editor instanceof TableCellEditor || editor instanceof TreeCellEditor) {
+            updateRenderer(editor);
+        }
+    }
+
+    private Object[] getDefaults(String uiClassID) {
+        Object[] values = defaults.get(uiClassID);
+        if (values == null) {
+            String prefix = uiClassID.endsWith("UI") ? uiClassID.substring(0, uiClassID.length() - 2) : uiClassID;
+            values = readDefaults(prefix);
+            defaults.put(uiClassID, values);
+        }
+        return values;
+    }
+
+    /**
+     * A subclass of a Material UI declared outside the library can change the style inside the installUI method,
+     * so it is installed again if it does not declare its own refreshTheme.
+     */
+    private static boolean isRefreshable(ComponentUI ui) {
+        if (!(ui instanceof MaterialThemeRefreshable)) {
+            return false;
+        }
+        Class<?> uiClass = ui.getClass();
+        Boolean refreshable = REFRESHABLE_UIS.get(uiClass);
+        if (refreshable == null) {
+            refreshable = uiClass.getName().startsWith(MATERIAL_PACKAGE);
+            if (!refreshable) {
+                try {
+                    Method method = uiClass.getMethod(REFRESH_METHOD, JComponent.class);
+                    refreshable = !method.getDeclaringClass().getName().startsWith(MATERIAL_PACKAGE);
+                } catch (NoSuchMethodException e) {
+                    refreshable = false;
+                }
+            }
+            REFRESHABLE_UIS.put(uiClass, refreshable);
+        }
+        return refreshable;
+    }
+
+    private static ComponentUI getUI(JComponent c) {
+        Class<?> componentClass = c.getClass();
+        Method getUI;
+        if (UI_GETTERS.containsKey(componentClass)) {
+            getUI = UI_GETTERS.get(componentClass);
+        } else {
+            // JComponent.getUI is public only from java 9, but each swing component has a public getUI
+            try {
+                getUI = componentClass.getMethod("getUI");
+                if (!ComponentUI.class.isAssignableFrom(getUI.getReturnType())) {
+                    getUI = null;
+                }
+            } catch (NoSuchMethodException | SecurityException e) {
+                getUI = null;
+            }
+            UI_GETTERS.put(componentClass, getUI);
+        }
+        if (getUI == null) {
+            return null;
+        }
+        try {
+            return (ComponentUI) getUI.invoke(c);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
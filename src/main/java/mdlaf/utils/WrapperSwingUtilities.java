@@ -26,56 +26,126 @@ package mdlaf.utils;
 
 import javax.swing.*;
 import java.awt.*;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author https://github.com/vincenzopalazzo
  */
 public class WrapperSwingUtilities {
 
-    private static WrapperSwingUtilities SINGLETON;
-
     public static WrapperSwingUtilities getInstance() {
-        if (SINGLETON == null) {
-            SINGLETON = new WrapperSwingUtilities();
-        }
-        return SINGLETON;
+        return SingletonHolder.SINGLETON;
     }
 
+    private static final int MAX_CLIPPED_CACHE_SIZE = 256;
+
     protected Class wrapperClass;
-    protected Method getClippedString;
+    protected MethodHandle getClippedString;
+    /**
+     * The titles and the headers are clipped on each paint with the same font metrics, text and width,
+     * so the last results are stored inside this map, it is synchronized because this class can be
+     * used by several threads.
+     */
+    private final Map<ClippedKey, String> clippedCache = Collections.synchronizedMap(
+            new LinkedHashMap<ClippedKey, String>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ClippedKey, String> eldest) {
+                    return size() > MAX_CLIPPED_CACHE_SIZE;
+                }
+            });
 
     private WrapperSwingUtilities() {
         this.initMethodWithJavaVersion();
     }
 
     public void initMethodWithJavaVersion() {
+        MethodType type = MethodType.methodType(String.class, JComponent.class, FontMetrics.class, String.class, int.class);
         try {
             if (Utils.isJavaVersionUnderJava9()) {
                 //I can load the method in Swing sun.swing.SwingUtilities2
                 this.wrapperClass = Class.forName("sun.swing.SwingUtilities2");
-                getClippedString = this.wrapperClass.getMethod("clipStringIfNecessary",
-                               new Class[]{ JComponent.class, FontMetrics.class, String.class, int.class});
+                getClippedString = MethodHandles.publicLookup().findStatic(this.wrapperClass, "clipStringIfNecessary", type);
             }else{
                 //I can load method from class javax.swing.plaf.basic.BasicGraphicsUtils
                 this.wrapperClass = Class.forName("javax.swing.plaf.basic.BasicGraphicsUtils");
-                getClippedString = this.wrapperClass.getMethod("getClippedString",
-                        new Class[]{ JComponent.class, FontMetrics.class, String.class, int.class});
+                getClippedString = MethodHandles.publicLookup().findStatic(this.wrapperClass, "getClippedString", type);
             }
-        } catch (ClassNotFoundException | NoSuchMethodException e) {
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
             e.printStackTrace();
             throw new IllegalArgumentException(e.getCause());
         }
+        clippedCache.clear();
     }
 
     public String getClippedString(JComponent component, FontMetrics fontMetrics, String text, int availTextWidth){
+        if (fontMetrics == null || text == null) {
+            return invokeGetClippedString(component, fontMetrics, text, availTextWidth);
+        }
+        ClippedKey key = new ClippedKey(fontMetrics, text, availTextWidth);
+        String clipped = clippedCache.get(key);
+        if (clipped == null) {
+            clipped = invokeGetClippedString(component, fontMetrics, text, availTextWidth);
+            if (clipped != null) {
+                clippedCache.put(key, clipped);
+            }
+        }
+        return clipped;
+    }
+
+    private String invokeGetClippedString(JComponent component, FontMetrics fontMetrics, String text, int availTextWidth) {
         try {
-            return (String) getClippedString.invoke(wrapperClass, component, fontMetrics, text, availTextWidth);
-        } catch (IllegalAccessException | InvocationTargetException e) {
+            return (String) getClippedString.invokeExact(component, fontMetrics, text, availTextWidth);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             e.printStackTrace();
-            throw new IllegalArgumentException(e.getCause());
+            throw new IllegalArgumentException(e);
         }
     }
 
+    /**
+     * The font metrics are compared with the identity, the components take the metrics from
+     * a cache of swing, so the same font has the same metrics.
+     */
+    private static final class ClippedKey {
+
+        private final FontMetrics fontMetrics;
+        private final String text;
+        private final int width;
+
+        private ClippedKey(FontMetrics fontMetrics, String text, int width) {
+            this.fontMetrics = fontMetrics;
+            this.text = text;
+            this.width = width;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ClippedKey)) {
+                return false;
+            }
+            ClippedKey other = (ClippedKey) o;
+            return fontMetrics == other.fontMetrics && width == other.width && text.equals(other.text);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(fontMetrics);
+            result = 31 * result + text.hashCode();
+            result = 31 * result + width;
+            return result;
+        }
+    }
+
+    private static class SingletonHolder {
+        private static final WrapperSwingUtilities SINGLETON = new WrapperSwingUtilities();
+    }
 }
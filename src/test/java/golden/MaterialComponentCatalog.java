@@ -0,0 +1,267 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2020-2021 Vincenzo Palazzo vincenzopalazzodev@gmail.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package golden;
+
+import mdlaf.themes.JMarsDarkTheme;
+import mdlaf.themes.MaterialLiteTheme;
+import mdlaf.themes.MaterialOceanicTheme;
+import mdlaf.themes.MaterialTheme;
+import org.jdesktop.swingx.JXTaskPane;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * The components painted by the golden image tests and by the benchmarks, one for each Material UI.
+ * Some components contain more UIs: the table contains the table header, the menu bar contains the menus
+ * and the popup menu contains the menu items. The file chooser is not inside the catalog because it shows
+ * the file system, the title pane because it needs a decorated window.
+ * <p>
+ * The components are laid out without a window, so they can be painted inside a BufferedImage
+ * also in a headless environment.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public final class MaterialComponentCatalog {
+
+    public static final String BUTTON = "button";
+    public static final String TOGGLE_BUTTON = "togglebutton";
+    public static final String CHECK_BOX = "checkbox";
+    public static final String RADIO_BUTTON = "radiobutton";
+    public static final String LABEL = "label";
+    public static final String TEXT_FIELD = "textfield";
+    public static final String PASSWORD_FIELD = "passwordfield";
+    public static final String FORMATTED_TEXT_FIELD = "formattedtextfield";
+    public static final String TEXT_AREA = "textarea";
+    public static final String TEXT_PANE = "textpane";
+    public static final String EDITOR_PANE = "editorpane";
+    public static final String COMBO_BOX = "combobox";
+    public static final String SPINNER = "spinner";
+    public static final String SLIDER = "slider";
+    public static final String PROGRESS_BAR = "progressbar";
+    public static final String SCROLL_BAR = "scrollbar";
+    public static final String SEPARATOR = "separator";
+    public static final String LIST = "list";
+    public static final String TABLE = "table";
+    public static final String TREE = "tree";
+    public static final String TABBED_PANE = "tabbedpane";
+    public static final String SPLIT_PANE = "splitpane";
+    public static final String TOOL_BAR = "toolbar";
+    public static final String MENU_BAR = "menubar";
+    public static final String POPUP_MENU = "popupmenu";
+    public static final String TOOL_TIP = "tooltip";
+    public static final String PANEL = "panel";
+    public static final String ROOT_PANE = "rootpane";
+    public static final String INTERNAL_FRAME = "internalframe";
+    public static final String OPTION_PANE = "optionpane";
+    public static final String TASK_PANE = "taskpane";
+
+    public static final String[] COMPONENTS = {
+            BUTTON, TOGGLE_BUTTON, CHECK_BOX, RADIO_BUTTON, LABEL, TEXT_FIELD, PASSWORD_FIELD, FORMATTED_TEXT_FIELD,
+            TEXT_AREA, TEXT_PANE, EDITOR_PANE, COMBO_BOX, SPINNER, SLIDER, PROGRESS_BAR, SCROLL_BAR, SEPARATOR, LIST,
+            TABLE, TREE, TABBED_PANE, SPLIT_PANE, TOOL_BAR, MENU_BAR, POPUP_MENU, TOOL_TIP, PANEL, ROOT_PANE,
+            INTERNAL_FRAME, OPTION_PANE, TASK_PANE
+    };
+
+    public static final String[] THEMES = {"MaterialLiteTheme", "JMarsDarkTheme", "MaterialOceanicTheme"};
+
+    private MaterialComponentCatalog() {
+    }
+
+    public static MaterialTheme createTheme(String name) {
+        if ("MaterialLiteTheme".equals(name)) {
+            return new MaterialLiteTheme();
+        } else if ("JMarsDarkTheme".equals(name)) {
+            return new JMarsDarkTheme();
+        } else if ("MaterialOceanicTheme".equals(name)) {
+            return new MaterialOceanicTheme();
+        }
+        throw new IllegalArgumentException("Unknown theme " + name);
+    }
+
+    /**
+     * Creates the component with the installed look and feel, sized and laid out.
+     */
+    public static JComponent createComponent(String name) {
+        JComponent component;
+        if (BUTTON.equals(name)) {
+            component = new JButton("Material button");
+        } else if (TOGGLE_BUTTON.equals(name)) {
+            JToggleButton toggleButton = new JToggleButton("Material toggle");
+            toggleButton.setSelected(true);
+            component = toggleButton;
+        } else if (CHECK_BOX.equals(name)) {
+            component = new JCheckBox("Material check box", true);
+        } else if (RADIO_BUTTON.equals(name)) {
+            component = new JRadioButton("Material radio button", true);
+        } else if (LABEL.equals(name)) {
+            component = new JLabel("Material label", UIManager.getIcon("OptionPane.informationIcon"), SwingConstants.LEFT);
+        } else if (TEXT_FIELD.equals(name)) {
+            component = new JTextField("Material text field", 20);
+        } else if (PASSWORD_FIELD.equals(name)) {
+            component = new JPasswordField("material", 20);
+        } else if (FORMATTED_TEXT_FIELD.equals(name)) {
+            JFormattedTextField formattedTextField = new JFormattedTextField(NumberFormat.getIntegerInstance(Locale.US));
+            formattedTextField.setValue(123456);
+            formattedTextField.setColumns(20);
+            component = formattedTextField;
+        } else if (TEXT_AREA.equals(name)) {
+            JTextArea textArea = new JTextArea("Material text area\nwith more lines of text\nthat are wrapped inside the area", 4, 20);
+            textArea.select(9, 13);
+            component = textArea;
+        } else if (TEXT_PANE.equals(name)) {
+            JTextPane textPane = new JTextPane();
+            textPane.setText("Material text pane");
+            textPane.setPreferredSize(new Dimension(240, 60));
+            component = textPane;
+        } else if (EDITOR_PANE.equals(name)) {
+            JEditorPane editorPane = new JEditorPane("text/html", "<html><b>Material</b> editor pane</html>");
+            editorPane.setPreferredSize(new Dimension(240, 60));
+            component = editorPane;
+        } else if (COMBO_BOX.equals(name)) {
+            component = new JComboBox<>(new String[]{"Material", "Lite", "Dark", "Oceanic"});
+        } else if (SPINNER.equals(name)) {
+            component = new JSpinner(new SpinnerNumberModel(5, 0, 10, 1));
+        } else if (SLIDER.equals(name)) {
+            JSlider slider = new JSlider(0, 100, 40);
+            slider.setMajorTickSpacing(20);
+            slider.setMinorTickSpacing(5);
+            slider.setPaintTicks(true);
+            slider.setPaintLabels(true);
+            component = slider;
+        } else if (PROGRESS_BAR.equals(name)) {
+            JProgressBar progressBar = new JProgressBar(0, 100);
+            progressBar.setValue(60);
+            progressBar.setStringPainted(true);
+            component = progressBar;
+        } else if (SCROLL_BAR.equals(name)) {
+            component = new JScrollBar(JScrollBar.VERTICAL, 30, 20, 0, 100);
+            component.setPreferredSize(new Dimension(16, 200));
+        } else if (SEPARATOR.equals(name)) {
+            component = new JSeparator();
+            component.setPreferredSize(new Dimension(200, 8));
+        } else if (LIST.equals(name)) {
+            JList<String> list = new JList<>(new String[]{"Material", "Lite", "Dark", "Oceanic", "Jmars"});
+            list.setSelectedIndex(1);
+            component = list;
+        } else if (TABLE.equals(name)) {
+            DefaultTableModel model = new DefaultTableModel(new String[]{"Name", "Type", "Size", "Modified"}, 0);
+            for (int i = 0; i < 40; i++) {
+                model.addRow(new Object[]{"File " + i, i % 2 == 0 ? "Text" : "Image", i * 1024, "2020-10-" + (i % 28 + 1)});
+            }
+            JTable table = new JTable(model);
+            table.setRowSelectionInterval(3, 5);
+            JScrollPane scrollPane = new JScrollPane(table);
+            // the header is added by JTable.addNotify, without a window it is added here
+            scrollPane.setColumnHeaderView(table.getTableHeader());
+            component = scrollPane;
+            component.setPreferredSize(new Dimension(420, 300));
+        } else if (TREE.equals(name)) {
+            JTree tree = new JTree();
+            for (int i = 0; i < tree.getRowCount(); i++) {
+                tree.expandRow(i);
+            }
+            tree.setSelectionRow(2);
+            component = tree;
+        } else if (TABBED_PANE.equals(name)) {
+            JTabbedPane tabbedPane = new JTabbedPane();
+            for (int i = 0; i < 8; i++) {
+                tabbedPane.addTab("Tab " + i, new JLabel("Content of the tab " + i));
+            }
+            tabbedPane.setSelectedIndex(2);
+            component = tabbedPane;
+            component.setPreferredSize(new Dimension(520, 200));
+        } else if (SPLIT_PANE.equals(name)) {
+            JSplitPane splitPane = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, new JLabel("Left"), new JLabel("Right"));
+            splitPane.setPreferredSize(new Dimension(300, 120));
+            splitPane.setDividerLocation(150);
+            component = splitPane;
+        } else if (TOOL_BAR.equals(name)) {
+            JToolBar toolBar = new JToolBar();
+            toolBar.add(new JButton("New"));
+            toolBar.add(new JButton("Open"));
+            toolBar.addSeparator();
+            toolBar.add(new JToggleButton("Bold"));
+            component = toolBar;
+        } else if (MENU_BAR.equals(name)) {
+            JMenuBar menuBar = new JMenuBar();
+            menuBar.add(new JMenu("File"));
+            menuBar.add(new JMenu("Edit"));
+            menuBar.add(new JMenu("Help"));
+            component = menuBar;
+        } else if (POPUP_MENU.equals(name)) {
+            JPopupMenu popupMenu = new JPopupMenu();
+            popupMenu.add(new JMenuItem("Material item"));
+            popupMenu.add(new JCheckBoxMenuItem("Check box item", true));
+            popupMenu.add(new JRadioButtonMenuItem("Radio button item", true));
+            popupMenu.add(new JMenu("Sub menu"));
+            component = popupMenu;
+        } else if (TOOL_TIP.equals(name)) {
+            JToolTip toolTip = new JToolTip();
+            toolTip.setTipText("Material tool tip");
+            component = toolTip;
+        } else if (PANEL.equals(name)) {
+            JPanel panel = new JPanel();
+            panel.add(new JLabel("Material panel"));
+            panel.setPreferredSize(new Dimension(200, 80));
+            component = panel;
+        } else if (ROOT_PANE.equals(name)) {
+            JRootPane rootPane = new JRootPane();
+            rootPane.getContentPane().add(new JLabel("Material root pane"));
+            rootPane.setPreferredSize(new Dimension(200, 80));
+            component = rootPane;
+        } else if (INTERNAL_FRAME.equals(name)) {
+            JInternalFrame internalFrame = new JInternalFrame("Material internal frame", true, true, true, true);
+            internalFrame.add(new JLabel("Content"));
+            internalFrame.setPreferredSize(new Dimension(300, 160));
+            internalFrame.setVisible(true);
+            component = internalFrame;
+        } else if (OPTION_PANE.equals(name)) {
+            component = new JOptionPane("Material option pane", JOptionPane.INFORMATION_MESSAGE);
+        } else if (TASK_PANE.equals(name)) {
+            JXTaskPane taskPane = new JXTaskPane();
+            taskPane.setTitle("Material task pane");
+            taskPane.setAnimated(false);
+            taskPane.add(new JLabel("Task"));
+            component = taskPane;
+        } else {
+            throw new IllegalArgumentException("Unknown component " + name);
+        }
+        component.setSize(component.getPreferredSize());
+        layout(component);
+        return component;
+    }
+
+    static void layout(Container container) {
+        container.doLayout();
+        for (Component child : container.getComponents()) {
+            if (child instanceof Container) {
+                layout((Container) child);
+            }
+        }
+    }
+}
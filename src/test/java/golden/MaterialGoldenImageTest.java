@@ -0,0 +1,206 @@
+package golden;
+
+import mdlaf.MaterialLookAndFeel;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Paints each component of MaterialComponentCatalog with each theme and compares it with the golden image inside
+ * src/test/resources/golden/java{version}/{theme}/{component}.png, the font size depends on the version of java
+ * so each version has its golden images and the test is skipped on a version without them.
+ * <p>
+ * The golden images are created, or replaced, with ./gradlew test -Dmdlaf.golden.update=true.
+ * When an image is different the actual image and the difference are written inside build/reports/golden,
+ * with the file render-times.csv that contains the time of the paint of each image.
+ * <p>
+ * Properties:
+ * - mdlaf.golden.tolerance: the difference of a channel accepted for a pixel, by default 24
+ * - mdlaf.golden.maxDifference: the ratio of different pixels accepted for an image, by default 0.02
+ * - mdlaf.golden.timeBaseline: a render-times.csv of a previous run, the report contains the ratio with it
+ * - mdlaf.golden.maxSlowdown: if set with the baseline, the test fails when a paint is slower than the baseline by this ratio
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+@RunWith(Parameterized.class)
+public class MaterialGoldenImageTest {
+
+    private static final boolean UPDATE = Boolean.getBoolean("mdlaf.golden.update");
+    private static final File GOLDEN_DIR = new File(System.getProperty("mdlaf.golden.dir", "src/test/resources/golden"), javaVersion());
+    private static final File REPORT_DIR = new File(System.getProperty("mdlaf.golden.reportDir", "build/reports/golden"));
+    private static final int TOLERANCE = Integer.getInteger("mdlaf.golden.tolerance", 24);
+    private static final double MAX_DIFFERENCE = Double.parseDouble(System.getProperty("mdlaf.golden.maxDifference", "0.02"));
+    private static final String TIME_BASELINE = System.getProperty("mdlaf.golden.timeBaseline");
+    private static final double MAX_SLOWDOWN = Double.parseDouble(System.getProperty("mdlaf.golden.maxSlowdown", "0"));
+    private static final int WARMUP_PAINTS = 10;
+    private static final int MEASURED_PAINTS = 25;
+
+    private static final List<String> renderTimes = new ArrayList<>();
+    private static LookAndFeel previousLookAndFeel;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> themes() {
+        List<Object[]> themes = new ArrayList<>();
+        for (String theme : MaterialComponentCatalog.THEMES) {
+            themes.add(new Object[]{theme});
+        }
+        return themes;
+    }
+
+    @BeforeClass
+    public static void saveLookAndFeel() {
+        previousLookAndFeel = UIManager.getLookAndFeel();
+    }
+
+    @AfterClass
+    public static void restoreLookAndFeelAndWriteReport() throws Exception {
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    if (previousLookAndFeel != null) {
+                        UIManager.setLookAndFeel(previousLookAndFeel);
+                    }
+                } catch (UnsupportedLookAndFeelException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        if (renderTimes.isEmpty()) {
+            return;
+        }
+        REPORT_DIR.mkdirs();
+        try (PrintWriter writer = new PrintWriter(new File(REPORT_DIR, "render-times.csv"), "UTF-8")) {
+            writer.println("theme,component,width,height,paintNanos,differentPixels,baselineNanos,ratio");
+            for (String row : renderTimes) {
+                writer.println(row);
+            }
+        }
+    }
+
+    private final String theme;
+    private final Map<String, Long> baseline;
+
+    public MaterialGoldenImageTest(String theme) throws IOException {
+        this.theme = theme;
+        this.baseline = readBaseline(theme);
+    }
+
+    @Test
+    public void testComponentsMatchGoldenImages() throws Exception {
+        final File goldenDir = new File(GOLDEN_DIR, theme);
+        Assume.assumeTrue("No golden images in " + goldenDir + ", create them with -Dmdlaf.golden.update=true",
+                UPDATE || goldenDir.isDirectory());
+        final List<String> failures = new ArrayList<>();
+        try {
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        UIManager.setLookAndFeel(new MaterialLookAndFeel(MaterialComponentCatalog.createTheme(theme)));
+                        for (String name : MaterialComponentCatalog.COMPONENTS) {
+                            checkComponent(goldenDir, name, failures);
+                        }
+                    } catch (UnsupportedLookAndFeelException e) {
+                        throw new IllegalStateException(e);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+        if (!failures.isEmpty()) {
+            fail("The paint of " + theme + " changed, the images are inside " + REPORT_DIR + "\n" + String.join("\n", failures));
+        }
+    }
+
+    private void checkComponent(File goldenDir, String name, List<String> failures) throws IOException {
+        JComponent component = MaterialComponentCatalog.createComponent(name);
+        BufferedImage actual = MaterialGoldenImages.paint(component);
+        long paintNanos = MaterialGoldenImages.measurePaint(component, WARMUP_PAINTS, MEASURED_PAINTS);
+        File golden = new File(goldenDir, name + ".png");
+        int differentPixels = 0;
+        if (UPDATE) {
+            goldenDir.mkdirs();
+            ImageIO.write(actual, "png", golden);
+        } else if (!golden.isFile()) {
+            failures.add(name + ": the golden image " + golden + " doesn't exist");
+            writeReportImage(name + "-actual.png", actual);
+        } else {
+            MaterialGoldenImages.Difference difference = MaterialGoldenImages.compare(ImageIO.read(golden), actual, TOLERANCE);
+            differentPixels = difference.getDifferentPixels();
+            if (!difference.isSameSize()) {
+                failures.add(name + ": the size changed to " + actual.getWidth() + "x" + actual.getHeight());
+                writeReportImage(name + "-actual.png", actual);
+            } else if (difference.getRatio() > MAX_DIFFERENCE) {
+                failures.add(String.format("%s: %d pixels are different (%.2f%%)", name, differentPixels, difference.getRatio() * 100));
+                writeReportImage(name + "-actual.png", actual);
+                writeReportImage(name + "-diff.png", difference.getImage());
+            }
+        }
+        Long baselineNanos = baseline.get(name);
+        double ratio = baselineNanos == null || baselineNanos == 0 ? 0 : paintNanos / (double) baselineNanos;
+        if (MAX_SLOWDOWN > 0 && ratio > MAX_SLOWDOWN) {
+            failures.add(String.format("%s: the paint takes %d ns, %.2f times the baseline", name, paintNanos, ratio));
+        }
+        synchronized (renderTimes) {
+            renderTimes.add(String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%s,%.3f", theme, name, actual.getWidth(),
+                    actual.getHeight(), paintNanos, differentPixels, baselineNanos == null ? "" : baselineNanos, ratio));
+        }
+    }
+
+    private void writeReportImage(String fileName, BufferedImage image) throws IOException {
+        File dir = new File(new File(REPORT_DIR, javaVersion()), theme);
+        dir.mkdirs();
+        ImageIO.write(image, "png", new File(dir, fileName));
+    }
+
+    private static Map<String, Long> readBaseline(String theme) throws IOException {
+        Map<String, Long> baseline = new HashMap<>();
+        if (TIME_BASELINE == null) {
+            return baseline;
+        }
+        try (BufferedReader reader = new BufferedReader(new FileReader(TIME_BASELINE))) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split(",");
+                if (columns.length >= 5 && columns[0].equals(theme)) {
+                    baseline.put(columns[1], Long.parseLong(columns[4]));
+                }
+            }
+        }
+        return baseline;
+    }
+
+    /**
+     * @return java8 for the version 1.8, java11 for the version 11
+     */
+    private static String javaVersion() {
+        String version = System.getProperty("java.specification.version");
+        return "java" + (version.startsWith("1.") ? version.substring(2) : version);
+    }
+}
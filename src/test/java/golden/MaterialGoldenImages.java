@@ -0,0 +1,123 @@
+package golden;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Paints the components inside a BufferedImage, measures the time of the paint and compares the images with a tolerance.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+public final class MaterialGoldenImages {
+
+    private static final int DIFFERENT_PIXEL = 0xFFFF0000;
+
+    private MaterialGoldenImages() {
+    }
+
+    public static BufferedImage paint(JComponent component) {
+        BufferedImage image = new BufferedImage(Math.max(1, component.getWidth()), Math.max(1, component.getHeight()),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            component.paint(graphics);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * @return the median time of the paints, in nanoseconds, after the warmup paints
+     */
+    public static long measurePaint(JComponent component, int warmup, int runs) {
+        BufferedImage image = new BufferedImage(Math.max(1, component.getWidth()), Math.max(1, component.getHeight()),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            for (int i = 0; i < warmup; i++) {
+                component.paint(graphics);
+            }
+            long[] times = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                long start = System.nanoTime();
+                component.paint(graphics);
+                times[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(times);
+            return times[runs / 2];
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * A pixel is different when one of its channels differs more than the tolerance, the images
+     * with a different size are different in all the pixels.
+     */
+    public static Difference compare(BufferedImage expected, BufferedImage actual, int tolerance) {
+        int width = actual.getWidth();
+        int height = actual.getHeight();
+        if (expected.getWidth() != width || expected.getHeight() != height) {
+            return new Difference(width * height, width * height, null);
+        }
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        int differentPixels = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int expectedPixel = expected.getRGB(x, y);
+                int actualPixel = actual.getRGB(x, y);
+                if (maxChannelDifference(expectedPixel, actualPixel) > tolerance) {
+                    differentPixels++;
+                    image.setRGB(x, y, DIFFERENT_PIXEL);
+                } else {
+                    // the equal pixels are shown faded, so the differences are visible
+                    image.setRGB(x, y, actualPixel & 0x40FFFFFF);
+                }
+            }
+        }
+        return new Difference(differentPixels, width * height, image);
+    }
+
+    static int maxChannelDifference(int first, int second) {
+        int max = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            max = Math.max(max, Math.abs(((first >>> shift) & 0xFF) - ((second >>> shift) & 0xFF)));
+        }
+        return max;
+    }
+
+    public static final class Difference {
+
+        private final int differentPixels;
+        private final int totalPixels;
+        private final BufferedImage image;
+
+        Difference(int differentPixels, int totalPixels, BufferedImage image) {
+            this.differentPixels = differentPixels;
+            this.totalPixels = totalPixels;
+            this.image = image;
+        }
+
+        public int getDifferentPixels() {
+            return differentPixels;
+        }
+
+        public double getRatio() {
+            return totalPixels == 0 ? 0 : differentPixels / (double) totalPixels;
+        }
+
+        public boolean isSameSize() {
+            return image != null;
+        }
+
+        /**
+         * @return the different pixels in red over the faded actual image, null when the sizes are different
+         */
+        public BufferedImage getImage() {
+            return image;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package golden;
+
+import mdlaf.MaterialLookAndFeel;
+import mdlaf.themes.MaterialOceanicTheme;
+import mdlaf.themes.MaterialTheme;
+import mdlaf.utils.MaterialThemeRefresher;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.swing.*;
+import javax.swing.plaf.ButtonUI;
+import javax.swing.plaf.ComponentUI;
+import javax.swing.plaf.TableUI;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Creates each component of MaterialComponentCatalog with the MaterialLiteTheme, changes the theme with
+ * MaterialLookAndFeel.swapTheme and compares the paint with the paint of the same component after
+ * MaterialLookAndFeel.changeTheme and SwingUtilities.updateComponentTreeUI, that install again all the UIs.
+ * The tolerances are the same of MaterialGoldenImageTest.
+ *
+ * @author https://github.com/vincenzopalazzo
+ */
+@RunWith(Parameterized.class)
+public class MaterialThemeSwapTest {
+
+    private static final String START_THEME = "MaterialLiteTheme";
+    private static final int TOLERANCE = Integer.getInteger("mdlaf.golden.tolerance", 24);
+    private static final double MAX_DIFFERENCE = Double.parseDouble(System.getProperty("mdlaf.golden.maxDifference", "0.02"));
+
+    private static LookAndFeel previousLookAndFeel;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> themes() {
+        List<Object[]> themes = new ArrayList<>();
+        for (String theme : MaterialComponentCatalog.THEMES) {
+            if (!START_THEME.equals(theme)) {
+                themes.add(new Object[]{theme});
+            }
+        }
+        return themes;
+    }
+
+    @BeforeClass
+    public static void saveLookAndFeel() {
+        previousLookAndFeel = UIManager.getLookAndFeel();
+    }
+
+    @AfterClass
+    public static void restoreLookAndFeel() throws Exception {
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    if (previousLookAndFeel != null) {
+                        UIManager.setLookAndFeel(previousLookAndFeel);
+                    }
+                } catch (UnsupportedLookAndFeelException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+    }
+
+    private final String theme;
+
+    public MaterialThemeSwapTest(String theme) {
+        this.theme = theme;
+    }
+
+    @Test
+    public void testSwappedComponentsMatchChangedComponents() throws Exception {
+        final List<String> failures = new ArrayList<>();
+        try {
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (String name : MaterialComponentCatalog.COMPONENTS) {
+                            checkComponent(name, failures);
+                        }
+                    } catch (UnsupportedLookAndFeelException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+        if (!failures.isEmpty()) {
+            fail("The swap from " + START_THEME + " to " + theme + " is different from the change of theme\n" + String.join("\n", failures));
+        }
+    }
+
+    @Test
+    public void testSwapKeepsTheUIs() throws Exception {
+        try {
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        UIManager.setLookAndFeel(new MaterialLookAndFeel(MaterialComponentCatalog.createTheme(START_THEME)));
+                        JButton button = new JButton("Material button");
+                        JTable table = new JTable(2, 2);
+                        ButtonUI buttonUI = button.getUI();
+                        TableUI tableUI = table.getUI();
+                        MaterialLookAndFeel.swapTheme(MaterialComponentCatalog.createTheme(theme));
+                        MaterialThemeRefresher.refreshComponentTree(button);
+                        MaterialThemeRefresher.refreshComponentTree(table);
+                        assertSame(buttonUI, button.getUI());
+                        assertSame(tableUI, table.getUI());
+                        assertEquals(UIManager.getColor("Button.background"), button.getBackground());
+                        assertEquals(UIManager.getColor("Table.background"), table.getBackground());
+                    } catch (UnsupportedLookAndFeelException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    @Test
+    public void testSwapInstallsAgainTheOtherUIs() throws Exception {
+        try {
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        UIManager.setLookAndFeel(new MaterialLookAndFeel(MaterialComponentCatalog.createTheme(START_THEME)));
+                        JPanel panel = new JPanel();
+                        CachingComponent component = new CachingComponent();
+                        ReadingComponent reading = new ReadingComponent();
+                        panel.add(component);
+                        panel.add(reading);
+                        MaterialLookAndFeel.swapTheme(MaterialComponentCatalog.createTheme(theme));
+                        MaterialThemeRefresher.refreshComponentTree(panel);
+                        assertEquals(UIManager.getColor("Panel.background"), component.getUI().color);
+                        assertEquals(UIManager.getColor("Panel.background"), reading.color);
+                    } catch (UnsupportedLookAndFeelException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    @Test
+    public void testSwapChangesTheLayoutOptions() throws Exception {
+        try {
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        checkLayoutOptions(MaterialComponentCatalog.createTheme(START_THEME), new LayoutOptionsTheme());
+                        checkLayoutOptions(new LayoutOptionsTheme(), MaterialComponentCatalog.createTheme(theme));
+                    } catch (UnsupportedLookAndFeelException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private static void checkLayoutOptions(MaterialTheme from, MaterialTheme to) throws UnsupportedLookAndFeelException {
+        UIManager.setLookAndFeel(new MaterialLookAndFeel(from));
+        JTree swappedTree = new JTree();
+        JTextArea swappedTextArea = new JTextArea("Material text area");
+        MaterialLookAndFeel.swapTheme(to);
+        MaterialThemeRefresher.refreshComponentTree(swappedTree);
+        MaterialThemeRefresher.refreshComponentTree(swappedTextArea);
+
+        UIManager.setLookAndFeel(new MaterialLookAndFeel(from));
+        JTree changedTree = new JTree();
+        JTextArea changedTextArea = new JTextArea("Material text area");
+        MaterialLookAndFeel.changeTheme(to);
+        SwingUtilities.updateComponentTreeUI(changedTree);
+        SwingUtilities.updateComponentTreeUI(changedTextArea);
+
+        assertEquals(to.getFixedRowHeightTree(), swappedTree.getRowHeight() > 0);
+        assertEquals(changedTree.getRowHeight(), swappedTree.getRowHeight());
+        assertEquals(changedTree.isLargeModel(), swappedTree.isLargeModel());
+        assertEquals(to.getLineWrapTextArea(), swappedTextArea.getLineWrap());
+        assertEquals(changedTextArea.getLineWrap(), swappedTextArea.getLineWrap());
+        assertEquals(changedTextArea.getWrapStyleWord(), swappedTextArea.getWrapStyleWord());
+    }
+
+    /**
+     * The built-in themes use the default layout options, this theme changes all of them.
+     */
+    public static class LayoutOptionsTheme extends MaterialOceanicTheme {
+
+        @Override
+        public boolean getFixedRowHeightTree() {
+            return !super.getFixedRowHeightTree();
+        }
+
+        @Override
+        public boolean getLargeModelTree() {
+            return !super.getLargeModelTree();
+        }
+
+        @Override
+        public boolean getLineWrapTextArea() {
+            return !super.getLineWrapTextArea();
+        }
+
+        @Override
+        public boolean getWrapStyleWordTextArea() {
+            return !super.getWrapStyleWordTextArea();
+        }
+    }
+
+    /**
+     * A component of another library, its UI keeps a color of the theme.
+     */
+    public static class CachingComponent extends JComponent {
+
+        public CachingComponent() {
+            updateUI();
+        }
+
+        @Override
+        public void updateUI() {
+            setUI(new CachingUI());
+        }
+
+        public CachingUI getUI() {
+            return (CachingUI) ui;
+        }
+    }
+
+    /**
+     * A component without UI and without getUI, it reads a color of the theme inside updateUI.
+     */
+    public static class ReadingComponent extends JComponent {
+
+        private Color color;
+
+        public ReadingComponent() {
+            updateUI();
+        }
+
+        @Override
+        public void updateUI() {
+            color = UIManager.getColor("Panel.background");
+        }
+    }
+
+    public static class CachingUI extends ComponentUI {
+
+        private Color color;
+
+        @Override
+        public void installUI(JComponent c) {
+            color = UIManager.getColor("Panel.background");
+        }
+    }
+
+    private void checkComponent(String name, List<String> failures) throws UnsupportedLookAndFeelException {
+        UIManager.setLookAndFeel(new MaterialLookAndFeel(MaterialComponentCatalog.createTheme(START_THEME)));
+        JComponent swapped = MaterialComponentCatalog.createComponent(name);
+        MaterialLookAndFeel.swapTheme(MaterialComponentCatalog.createTheme(theme));
+        // The catalog components are not inside a window, so swapTheme doesn't find them
+        MaterialThemeRefresher.refreshComponentTree(swapped);
+        swapped.setSize(swapped.getPreferredSize());
+        MaterialComponentCatalog.layout(swapped);
+        BufferedImage actual = MaterialGoldenImages.paint(swapped);
+
+        UIManager.setLookAndFeel(new MaterialLookAndFeel(MaterialComponentCatalog.createTheme(START_THEME)));
+        JComponent changed = MaterialComponentCatalog.createComponent(name);
+        MaterialLookAndFeel.changeTheme(MaterialComponentCatalog.createTheme(theme));
+        SwingUtilities.updateComponentTreeUI(changed);
+        changed.setSize(changed.getPreferredSize());
+        MaterialComponentCatalog.layout(changed);
+        BufferedImage expected = MaterialGoldenImages.paint(changed);
+
+        MaterialGoldenImages.Difference difference = MaterialGoldenImages.compare(expected, actual, TOLERANCE);
+        if (!difference.isSameSize()) {
+            failures.add(name + ": the size is " + actual.getWidth() + "x" + actual.getHeight() + " instead of "
+                    + expected.getWidth() + "x" + expected.getHeight());
+        } else if (difference.getRatio() > MAX_DIFFERENCE) {
+            failures.add(String.format("%s: %d pixels are different (%.2f%%)", name, difference.getDifferentPixels(),
+                    difference.getRatio() * 100));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package unittest;
+
+import junit.framework.TestCase;
+import mdlaf.animation.MaterialAnimationClock;
+import mdlaf.animation.MaterialUIMovement;
+import mdlaf.animation.MaterialUITimer;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.lang.reflect.InvocationTargetException;
+
+public class MaterialAnimationClockTest {
+
+    private static void runOnEventDispatchThread(Runnable runnable) throws Exception {
+        try {
+            SwingUtilities.invokeAndWait(runnable);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private static MaterialUITimer startHover(JComponent component, int interval) {
+        MaterialUITimer hover = MaterialUIMovement.getMovement(component, Color.RED, 5, interval);
+        hover.mouseEntered(new MouseEvent(component, MouseEvent.MOUSE_ENTERED, 0, 0, 0, 0, 0, false));
+        return hover;
+    }
+
+    @Test
+    public void testClockPulsesWithTheSmallestInterval() throws Exception {
+        runOnEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                MaterialAnimationClock clock = MaterialAnimationClock.getInstance();
+                MaterialUITimer slow = startHover(new JPanel(), 1000 / 30);
+                TestCase.assertEquals(1000 / 30, clock.getDelay());
+                MaterialUITimer fast = startHover(new JPanel(), 5);
+                TestCase.assertEquals(MaterialAnimationClock.PULSE, clock.getDelay());
+                clock.stop(fast);
+                TestCase.assertEquals(1000 / 30, clock.getDelay());
+                clock.stop(slow);
+                TestCase.assertFalse(clock.isRunning());
+            }
+        });
+    }
+
+    @Test
+    public void testFramesFollowTheIntervalWithAFasterClock() throws Exception {
+        runOnEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                // A negative time is valid for System.nanoTime, the first pulse paints the first frame
+                long start = -1000;
+                MaterialUITimer hover = startHover(new JPanel(), 1000 / 30);
+                // 5 steps are 6 frames, one each two pulses of 16 ms
+                for (int pulse = 0; pulse < 10; pulse++) {
+                    hover.onPulse(start + pulse * 16L);
+                    TestCase.assertTrue(hover.isRunning());
+                }
+                hover.onPulse(start + 10 * 16L);
+                TestCase.assertFalse(hover.isRunning());
+            }
+        });
+    }
+}
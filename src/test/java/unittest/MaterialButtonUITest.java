@@ -0,0 +1,71 @@
+package unittest;
+
+import junit.framework.TestCase;
+import mdlaf.MaterialLookAndFeel;
+import mdlaf.components.button.MaterialButtonUI;
+import mdlaf.themes.MaterialLiteTheme;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.lang.reflect.InvocationTargetException;
+
+public class MaterialButtonUITest {
+
+    private LookAndFeel previousLookAndFeel;
+
+    @Before
+    public void setUp() throws Exception {
+        previousLookAndFeel = UIManager.getLookAndFeel();
+        UIManager.setLookAndFeel(new MaterialLookAndFeel(new MaterialLiteTheme()));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        UIManager.setLookAndFeel(previousLookAndFeel);
+    }
+
+    private static class BorderPaintedButtonUI extends MaterialButtonUI {
+
+        boolean isBorderPainted() {
+            return borderPainted;
+        }
+    }
+
+    @Test
+    public void testBorderFollowsTheDefaultButton() throws Exception {
+        try {
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    JRootPane rootPane = new JRootPane();
+                    JButton first = new JButton("first");
+                    JButton second = new JButton("second");
+                    BorderPaintedButtonUI firstUI = new BorderPaintedButtonUI();
+                    BorderPaintedButtonUI secondUI = new BorderPaintedButtonUI();
+                    first.setUI(firstUI);
+                    second.setUI(secondUI);
+                    rootPane.getContentPane().add(first);
+                    rootPane.getContentPane().add(second);
+                    TestCase.assertTrue(firstUI.isBorderPainted());
+                    TestCase.assertTrue(secondUI.isBorderPainted());
+
+                    rootPane.setDefaultButton(first);
+                    TestCase.assertFalse(firstUI.isBorderPainted());
+                    TestCase.assertTrue(secondUI.isBorderPainted());
+
+                    rootPane.setDefaultButton(second);
+                    TestCase.assertTrue(firstUI.isBorderPainted());
+                    TestCase.assertFalse(secondUI.isBorderPainted());
+
+                    rootPane.setDefaultButton(null);
+                    TestCase.assertTrue(firstUI.isBorderPainted());
+                    TestCase.assertTrue(secondUI.isBorderPainted());
+                }
+            });
+        } catch (InvocationTargetException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package unittest;
+
+import junit.framework.TestCase;
+import mdlaf.animation.MaterialColorRamp;
+import org.junit.Test;
+
+import java.awt.*;
+
+public class MaterialColorRampTest {
+
+    @Test
+    public void testRampFinishOnTheTargetColor(){
+        Color from = new Color(250, 250, 250);
+        Color to = new Color(3, 169, 244);
+        MaterialColorRamp ramp = MaterialColorRamp.getRamp(from, to, 7);
+        TestCase.assertEquals(from.getRGB(), ramp.get(0).getRGB());
+        TestCase.assertEquals(to.getRGB(), ramp.get(7).getRGB());
+        TestCase.assertEquals(to.getRGB(), ramp.get(8).getRGB());
+        TestCase.assertEquals(from.getRGB(), ramp.get(-1).getRGB());
+    }
+
+    @Test
+    public void testRampIsShared(){
+        MaterialColorRamp rampOne = MaterialColorRamp.getRamp(new Color(10, 20, 30), new Color(40, 50, 60), 5);
+        MaterialColorRamp rampTwo = MaterialColorRamp.getRamp(new Color(10, 20, 30), new Color(40, 50, 60), 5);
+        TestCase.assertSame(rampOne, rampTwo);
+        TestCase.assertSame(rampOne.get(3), rampTwo.get(3));
+        TestCase.assertNotSame(rampOne, MaterialColorRamp.getRamp(new Color(10, 20, 30), new Color(40, 50, 60), 6));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRampWithNullColor(){
+        MaterialColorRamp.getRamp(null, Color.BLACK, 5);
+    }
+}
@@ -0,0 +1,48 @@
+package unittest;
+
+import junit.framework.TestCase;
+import mdlaf.utils.MaterialDrawingUtils;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+public class MaterialDrawingUtilsTest {
+
+    @Test
+    public void testTextCacheStatistics(){
+        JLabel label = new JLabel("Material");
+        label.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
+        BufferedImage image = new BufferedImage(100, 30, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        MaterialDrawingUtils.clearTextCache();
+
+        MaterialDrawingUtils.drawString(label, graphics, label.getText(), new Rectangle(0, 0, 100, 30), -1, 0, Color.BLACK);
+        MaterialDrawingUtils.drawString(label, graphics, label.getText(), new Rectangle(0, 0, 100, 30), 0, 0, Color.BLACK);
+        graphics.dispose();
+
+        TestCase.assertEquals(1, MaterialDrawingUtils.getTextCacheMisses());
+        TestCase.assertEquals(1, MaterialDrawingUtils.getTextCacheHits());
+        TestCase.assertEquals(1, MaterialDrawingUtils.getTextCacheSize());
+    }
+
+    @Test
+    public void testTextCacheEviction(){
+        JLabel label = new JLabel();
+        label.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
+        BufferedImage image = new BufferedImage(100, 30, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        MaterialDrawingUtils.clearTextCache();
+        MaterialDrawingUtils.setMaxTextCacheSize(2);
+        try {
+            for (int i = 0; i < 5; i++) {
+                MaterialDrawingUtils.getStringWidth(label, graphics, label.getFont(), "text " + i);
+            }
+            TestCase.assertEquals(2, MaterialDrawingUtils.getTextCacheSize());
+        } finally {
+            graphics.dispose();
+            MaterialDrawingUtils.setMaxTextCacheSize(MaterialDrawingUtils.DEFAULT_MAX_TEXT_CACHE_SIZE);
+        }
+    }
+}
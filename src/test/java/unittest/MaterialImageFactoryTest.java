@@ -122,4 +122,31 @@ public class MaterialImageFactoryTest{
         });
 
     }
+
+    @Test
+    public void testIconCacheStatistics() throws Throwable{
+        MaterialImageFactory factory = MaterialImageFactory.getInstance();
+        long misses = factory.getCacheMisses();
+        long hits = factory.getCacheHits();
+        Icon iconOne = factory.getImage(MaterialIconFont.ALARM, 33, new Color(1, 2, 3));
+        Icon iconTwo = factory.getImage(MaterialIconFont.ALARM, 33, new Color(1, 2, 3));
+        TestCase.assertSame(iconOne, iconTwo);
+        TestCase.assertEquals(misses + 1, factory.getCacheMisses());
+        TestCase.assertEquals(hits + 1, factory.getCacheHits());
+    }
+
+    @Test
+    public void testIconCacheEviction() throws Throwable{
+        MaterialImageFactory factory = MaterialImageFactory.getInstance();
+        try{
+            factory.setMaxCacheSize(2);
+            Icon iconOne = factory.getImage(MaterialIconFont.ALARM, 21, Color.RED);
+            factory.getImage(MaterialIconFont.ALARM, 22, Color.RED);
+            factory.getImage(MaterialIconFont.ALARM, 23, Color.RED);
+            TestCase.assertEquals(2, factory.getCacheSize());
+            TestCase.assertNotSame(iconOne, factory.getImage(MaterialIconFont.ALARM, 21, Color.RED));
+        }finally {
+            factory.setMaxCacheSize(MaterialImageFactory.DEFAULT_MAX_CACHE_SIZE);
+        }
+    }
 }
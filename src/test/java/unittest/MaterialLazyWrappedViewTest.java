@@ -0,0 +1,175 @@
+package unittest;
+
+import junit.framework.TestCase;
+import mdlaf.MaterialLookAndFeel;
+import mdlaf.components.textarea.MaterialTextAreaUI;
+import mdlaf.themes.MaterialLiteTheme;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.swing.*;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.PlainDocument;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
+
+/**
+ * Compares the caret mapping and the preferred height of the MaterialLazyWrappedView with the WrappedPlainView,
+ * the two text areas share the same document so they receive the same edits.
+ * From java 9 the WrappedPlainView measures the text with float coordinates, and the caret can move by one pixel,
+ * so the test runs only on java 8 like the build of the library.
+ */
+public class MaterialLazyWrappedViewTest {
+
+    private static final int HEIGHT = 10_000;
+
+    private LookAndFeel previousLookAndFeel;
+
+    @Before
+    public void setUp() throws Exception {
+        Assume.assumeTrue("The mapping is compared only on java 8", "1.8".equals(System.getProperty("java.specification.version")));
+        previousLookAndFeel = UIManager.getLookAndFeel();
+        UIManager.setLookAndFeel(new MaterialLookAndFeel(new MaterialLiteTheme()));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        UIManager.setLookAndFeel(previousLookAndFeel);
+    }
+
+    private static void runOnEventDispatchThread(Runnable runnable) throws Exception {
+        try {
+            SwingUtilities.invokeAndWait(runnable);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < length) {
+            int kind = random.nextInt(10);
+            if (kind == 0) {
+                text.append('\n');
+            } else if (kind == 1) {
+                // a word longer than the width, it is broken inside the word
+                for (int i = 0; i < 40; i++) {
+                    text.append((char) ('a' + random.nextInt(26)));
+                }
+            } else if (kind == 2) {
+                text.append('\t');
+            } else {
+                for (int i = random.nextInt(8) + 1; i > 0; i--) {
+                    text.append((char) ('a' + random.nextInt(26)));
+                }
+                text.append(' ');
+            }
+        }
+        return text.toString();
+    }
+
+    private static JTextArea createTextArea(Document document, boolean wordWrap, boolean largeDocument) {
+        JTextArea textArea = new JTextArea(document);
+        // The font of the theme uses the kerning, it makes each measure slower without changing the logic of the views
+        textArea.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 14));
+        textArea.putClientProperty(MaterialTextAreaUI.LARGE_DOCUMENT, largeDocument);
+        textArea.putClientProperty(MaterialTextAreaUI.LINE_WRAP, Boolean.TRUE);
+        textArea.putClientProperty(MaterialTextAreaUI.WRAP_STYLE_WORD, wordWrap);
+        return textArea;
+    }
+
+    /**
+     * The WrappedPlainView takes the origin of the tabs from the allocation only inside the paint, like
+     * a text area on the screen the two views are painted before the mapping is compared.
+     */
+    private static void paint(JTextArea... textAreas) {
+        for (JTextArea textArea : textAreas) {
+            BufferedImage image = new BufferedImage(textArea.getWidth(), 200, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = image.createGraphics();
+            try {
+                textArea.paint(graphics);
+            } finally {
+                graphics.dispose();
+            }
+        }
+    }
+
+    private static void setWidth(int width, JTextArea... textAreas) {
+        for (JTextArea textArea : textAreas) {
+            textArea.setSize(width, HEIGHT);
+        }
+    }
+
+    private static void assertSameMapping(String message, JTextArea expected, JTextArea actual) throws BadLocationException {
+        int length = expected.getDocument().getLength();
+        for (int offset = 0; offset <= length; offset++) {
+            TestCase.assertEquals(message + ", modelToView of " + offset, expected.modelToView(offset), actual.modelToView(offset));
+        }
+        Rectangle last = expected.modelToView(length);
+        int bottom = last.y + last.height + 20;
+        for (int y = 0; y < bottom; y += 5) {
+            for (int x = -5; x < expected.getWidth() + 5; x += 7) {
+                Point point = new Point(x, y);
+                TestCase.assertEquals(message + ", viewToModel of " + point, expected.viewToModel(point), actual.viewToModel(point));
+            }
+        }
+        // All the lines are laid out by the mapping, so the height is not an estimate
+        TestCase.assertEquals(message + ", preferred height", expected.getPreferredSize().height, actual.getPreferredSize().height);
+    }
+
+    private static void checkEdits(final boolean wordWrap) throws Exception {
+        runOnEventDispatchThread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Random random = new Random(wordWrap ? 7 : 11);
+                    Document document = new PlainDocument();
+                    document.insertString(0, randomText(random, 2000), null);
+                    JTextArea wrapped = createTextArea(document, wordWrap, false);
+                    JTextArea lazy = createTextArea(document, wordWrap, true);
+                    setWidth(300, wrapped, lazy);
+                    paint(wrapped, lazy);
+                    setWidth(240, wrapped, lazy);
+                    assertSameMapping("initial text", wrapped, lazy);
+
+                    for (int edit = 0; edit < 20; edit++) {
+                        int length = document.getLength();
+                        if (edit % 3 == 2 && length > 0) {
+                            int offset = random.nextInt(length);
+                            document.remove(offset, Math.min(length - offset, random.nextInt(120) + 1));
+                        } else {
+                            String text = edit % 3 == 1 ? "\n" + randomText(random, 30) + "\n" : randomText(random, 60);
+                            document.insertString(random.nextInt(length + 1), text, null);
+                        }
+                        assertSameMapping("edit " + edit, wrapped, lazy);
+                    }
+
+                    setWidth(130, wrapped, lazy);
+                    assertSameMapping("narrow width", wrapped, lazy);
+                    setWidth(500, wrapped, lazy);
+                    assertSameMapping("wide width", wrapped, lazy);
+                } catch (BadLocationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testSameMappingOfWrappedPlainViewWithWordWrap() throws Exception {
+        checkEdits(true);
+    }
+
+    @Test
+    public void testSameMappingOfWrappedPlainViewWithCharacterWrap() throws Exception {
+        checkEdits(false);
+    }
+}
@@ -0,0 +1,36 @@
+package unittest;
+
+import junit.framework.TestCase;
+import mdlaf.MaterialLookAndFeel;
+import mdlaf.themes.MaterialLiteTheme;
+import mdlaf.themes.MaterialTheme;
+import org.junit.Test;
+
+import javax.swing.plaf.FontUIResource;
+import javax.swing.plaf.IconUIResource;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class MaterialLookAndFeelPreloadTest {
+
+    @Test
+    public void testConstructorKeepsThePreloadedTheme() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            MaterialTheme theme = MaterialLookAndFeel.preload(new MaterialLiteTheme(), executor).get(30, TimeUnit.SECONDS);
+            FontUIResource font = theme.getFontRegular();
+            IconUIResource icon = theme.getIconComputerFileChooser();
+
+            new MaterialLookAndFeel(theme);
+            TestCase.assertSame(font, theme.getFontRegular());
+            TestCase.assertSame(icon, theme.getIconComputerFileChooser());
+
+            // Only the first look and feel uses the preloaded theme, the next ones install it again like before
+            new MaterialLookAndFeel(theme);
+            TestCase.assertNotSame(icon, theme.getIconComputerFileChooser());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
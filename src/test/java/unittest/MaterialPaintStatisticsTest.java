@@ -0,0 +1,74 @@
+package unittest;
+
+import junit.framework.TestCase;
+import mdlaf.utils.MaterialPaintRecord;
+import mdlaf.utils.MaterialPaintStatistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import javax.swing.plaf.ComponentUI;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+public class MaterialPaintStatisticsTest {
+
+    private static class FakeUI extends ComponentUI {
+    }
+
+    private final ComponentUI ui = new FakeUI();
+
+    @Before
+    public void setUp() {
+        MaterialPaintStatistics.reset();
+    }
+
+    @After
+    public void tearDown() {
+        MaterialPaintStatistics.uninstall();
+        MaterialPaintStatistics.reset();
+    }
+
+    private void paint(int times) {
+        for (int i = 0; i < times; i++) {
+            long start = MaterialPaintStatistics.beginPaint();
+            MaterialPaintStatistics.endPaint(ui, start);
+        }
+    }
+
+    @Test
+    public void testNothingRecordedWhenDisabled(){
+        paint(3);
+        TestCase.assertTrue(MaterialPaintStatistics.snapshot().isEmpty());
+    }
+
+    @Test
+    public void testCountAndMBean() throws Exception {
+        MaterialPaintStatistics.install();
+        TestCase.assertTrue(ManagementFactory.getPlatformMBeanServer()
+                .isRegistered(new ObjectName(MaterialPaintStatistics.OBJECT_NAME)));
+        paint(5);
+        MaterialPaintRecord record = MaterialPaintStatistics.snapshot().get(FakeUI.class.getName());
+        TestCase.assertEquals(5, record.getCount());
+        TestCase.assertTrue(record.getMaxNanos() <= record.getTotalNanos());
+        TestCase.assertEquals(MaterialPaintStatistics.isAllocationSupported(), record.getAllocatedBytes() >= 0);
+
+        MaterialPaintStatistics.uninstall();
+        TestCase.assertFalse(ManagementFactory.getPlatformMBeanServer()
+                .isRegistered(new ObjectName(MaterialPaintStatistics.OBJECT_NAME)));
+    }
+
+    @Test
+    public void testDifferenceOfSnapshots(){
+        MaterialPaintStatistics.install();
+        paint(2);
+        Map<String, MaterialPaintRecord> earlier = MaterialPaintStatistics.snapshot();
+        paint(3);
+        Map<String, MaterialPaintRecord> later = MaterialPaintStatistics.snapshot();
+        String name = FakeUI.class.getName();
+        MaterialPaintRecord lastPaints = later.get(name).minus(earlier.get(name));
+        TestCase.assertEquals(3, lastPaints.getCount());
+        TestCase.assertEquals(later.get(name).getTotalNanos() - earlier.get(name).getTotalNanos(), lastPaints.getTotalNanos());
+    }
+}
@@ -0,0 +1,45 @@
+package unittest;
+
+import junit.framework.TestCase;
+import mdlaf.shadows.MaterialShadowBlur;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class MaterialShadowBlurTest {
+
+    @Test
+    public void testUniformRasterNotChange(){
+        int[] pixels = new int[16 * 8];
+        Arrays.fill(pixels, 0x80402010);
+        MaterialShadowBlur.blur(pixels, 16, 8, 3);
+        for (int pixel : pixels) {
+            TestCase.assertEquals(0x80402010, pixel);
+        }
+    }
+
+    @Test
+    public void testBlurSpreadTheAlphaSymmetrically(){
+        int size = 21;
+        int[] pixels = new int[size * size];
+        pixels[10 * size + 10] = 0xFF000000;
+        MaterialShadowBlur.blur(pixels, size, size, 0.8);
+        int center = pixels[10 * size + 10] >>> 24;
+        TestCase.assertTrue(center < 0xFF);
+        TestCase.assertEquals(pixels[10 * size + 9] >>> 24, pixels[10 * size + 11] >>> 24);
+        TestCase.assertEquals(pixels[9 * size + 10] >>> 24, pixels[11 * size + 10] >>> 24);
+        TestCase.assertTrue((pixels[10 * size + 9] >>> 24) <= center);
+        TestCase.assertEquals(0, pixels[0] >>> 24);
+    }
+
+    @Test
+    public void testSigmaForBoxSize(){
+        TestCase.assertEquals(0d, MaterialShadowBlur.sigmaForBoxSize(1), 0);
+        TestCase.assertEquals(Math.sqrt(2), MaterialShadowBlur.sigmaForBoxSize(5), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBlurWithSmallRaster(){
+        MaterialShadowBlur.blur(new int[4], 4, 4, 1);
+    }
+}
@@ -0,0 +1,97 @@
+package unittest;
+
+import junit.framework.TestCase;
+import mdlaf.utils.MaterialStall;
+import mdlaf.utils.MaterialStallWatchdog;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.List;
+
+public class MaterialStallWatchdogTest {
+
+    // The margin between the budget and the stalls is large, a slow machine can add a stall but it can't remove one
+    private static final long BUDGET_MILLIS = 200;
+    private static final long STALL_MILLIS = 600;
+
+    @After
+    public void tearDown() {
+        MaterialStallWatchdog.uninstall();
+    }
+
+    private static void runOnEventDispatchThread(final long sleepMillis) throws Exception {
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testStallCapturedWithStack() throws Exception {
+        MaterialStallWatchdog watchdog = MaterialStallWatchdog.install(BUDGET_MILLIS);
+        runOnEventDispatchThread(1);
+        runOnEventDispatchThread(STALL_MILLIS);
+        // invokeAndWait returns before the end of the dispatch, the next event waits for it
+        runOnEventDispatchThread(0);
+        List<MaterialStall> stalls = watchdog.getStalls();
+        TestCase.assertTrue(stalls.size() >= 1);
+        MaterialStall stall = stalls.get(0);
+        for (MaterialStall other : stalls) {
+            if (other.getDurationNanos() > stall.getDurationNanos()) {
+                stall = other;
+            }
+        }
+        TestCase.assertTrue(stall.getDurationNanos() >= STALL_MILLIS * 1_000_000L);
+        boolean sleeping = false;
+        for (StackTraceElement element : stall.getStackTrace()) {
+            sleeping |= element.getMethodName().equals("sleep");
+        }
+        TestCase.assertTrue(sleeping);
+    }
+
+    @Test
+    public void testRingBufferKeepsTheLastStalls() throws Exception {
+        MaterialStallWatchdog.uninstall();
+        MaterialStallWatchdog watchdog = MaterialStallWatchdog.install(BUDGET_MILLIS, 2);
+        for (int i = 0; i < 3; i++) {
+            runOnEventDispatchThread(STALL_MILLIS);
+        }
+        runOnEventDispatchThread(0);
+        TestCase.assertTrue(watchdog.getStallCount() >= 3);
+        TestCase.assertEquals(2, watchdog.getStalls().size());
+        watchdog.clear();
+        TestCase.assertTrue(watchdog.getStalls().isEmpty());
+    }
+
+    @Test
+    public void testUninstallKeepsTheQueuePushedLater() throws Exception {
+        MaterialStallWatchdog watchdog = MaterialStallWatchdog.install(BUDGET_MILLIS);
+        PoppableQueue other = new PoppableQueue();
+        watchdog.push(other);
+        try {
+            TestCase.assertFalse(MaterialStallWatchdog.uninstall());
+            TestCase.assertSame(watchdog, MaterialStallWatchdog.getInstalled());
+            TestCase.assertSame(other, Toolkit.getDefaultToolkit().getSystemEventQueue());
+        } finally {
+            other.pop();
+        }
+        TestCase.assertTrue(MaterialStallWatchdog.uninstall());
+        TestCase.assertNull(MaterialStallWatchdog.getInstalled());
+    }
+
+    private static class PoppableQueue extends EventQueue {
+
+        @Override
+        public void pop() {
+            super.pop();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package unittest;
+
+import junit.framework.TestCase;
+import mdlaf.components.tabbedpane.MaterialTabHitIndex;
+import org.junit.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+public class MaterialTabHitIndexTest {
+
+    private static Rectangle[] row(int count, int y, boolean leftToRight) {
+        Rectangle[] rects = new Rectangle[count];
+        for (int i = 0; i < count; i++) {
+            int x = leftToRight ? i * 50 : (count - 1 - i) * 50;
+            rects[i] = new Rectangle(x, y, 50, 30);
+        }
+        return rects;
+    }
+
+    private static int linearScan(Rectangle[] rects, int x, int y) {
+        for (int i = 0; i < rects.length; i++) {
+            if (rects[i].contains(x, y)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] linearIntersect(final Rectangle[] rects, Rectangle area) {
+        List<Integer> tabs = new ArrayList<>();
+        for (int i = 0; i < rects.length; i++) {
+            if (rects[i].intersects(area)) {
+                tabs.add(i);
+            }
+        }
+        Collections.sort(tabs, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                return Integer.compare(rects[o1].x, rects[o2].x);
+            }
+        });
+        int[] result = new int[tabs.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = tabs.get(i);
+        }
+        return result;
+    }
+
+    @Test
+    public void testSameResultOfLinearScan(){
+        for (boolean leftToRight : new boolean[]{true, false}) {
+            Rectangle[] rects = row(200, 2, leftToRight);
+            MaterialTabHitIndex index = new MaterialTabHitIndex(rects, rects.length, new int[]{0}, 1, true);
+            for (int x = -10; x < 200 * 50 + 10; x += 7) {
+                for (int y = -1; y < 40; y += 5) {
+                    TestCase.assertEquals(linearScan(rects, x, y), index.tabAt(x, y));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMoreRuns(){
+        Rectangle[] rects = new Rectangle[6];
+        System.arraycopy(row(3, 30, true), 0, rects, 0, 3);
+        System.arraycopy(row(3, 0, true), 0, rects, 3, 3);
+        MaterialTabHitIndex index = new MaterialTabHitIndex(rects, 6, new int[]{0, 3}, 2, true);
+        TestCase.assertEquals(2, index.getRunCount());
+        TestCase.assertEquals(1, index.tabAt(60, 40));
+        TestCase.assertEquals(4, index.tabAt(60, 10));
+        TestCase.assertEquals(-1, index.tabAt(160, 10));
+    }
+
+    @Test
+    public void testPaddedSelectedTab(){
+        Rectangle[] rects = row(3, 2, true);
+        rects[1] = new Rectangle(48, 0, 54, 32);
+        MaterialTabHitIndex index = new MaterialTabHitIndex(rects, 3, new int[]{0}, 1, true);
+        TestCase.assertEquals(0, index.tabAt(49, 10));
+        TestCase.assertEquals(1, index.tabAt(101, 10));
+        TestCase.assertEquals(1, index.tabAt(70, 1));
+    }
+
+    @Test
+    public void testTabsInRunSameResultOfLinearIntersect(){
+        for (boolean leftToRight : new boolean[]{true, false}) {
+            for (int selected : new int[]{-1, 0, 17, 39}) {
+                Rectangle[] rects = row(40, 2, leftToRight);
+                if (selected >= 0) {
+                    Rectangle tab = rects[selected];
+                    rects[selected] = new Rectangle(tab.x - 2, 0, tab.width + 4, tab.height + 2);
+                }
+                MaterialTabHitIndex index = new MaterialTabHitIndex(rects, rects.length, new int[]{0}, 1, true);
+                for (int x = -20; x < 40 * 50 + 20; x += 13) {
+                    for (int width : new int[]{1, 7, 50, 123}) {
+                        for (int y = -3; y < 35; y += 4) {
+                            for (int height : new int[]{1, 3, 40}) {
+                                Rectangle area = new Rectangle(x, y, width, height);
+                                int[] expected = linearIntersect(rects, area);
+                                int[] actual = index.getTabsInRun(0, area);
+                                TestCase.assertTrue(area + " expected " + Arrays.toString(expected)
+                                        + " but was " + Arrays.toString(actual), Arrays.equals(expected, actual));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testVerticalTabs(){
+        Rectangle[] rects = new Rectangle[]{new Rectangle(0, 0, 80, 20), new Rectangle(0, 20, 80, 20)};
+        MaterialTabHitIndex index = new MaterialTabHitIndex(rects, 2, new int[]{0}, 1, false);
+        TestCase.assertEquals(1, index.tabAt(10, 25));
+        TestCase.assertEquals(-1, index.tabAt(10, 45));
+    }
+}